@@ -0,0 +1,138 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Random;
+
+/**
+ * Input mixes shared by the date benchmarks. Every mix has a power-of-two
+ * size so that benchmarks can cycle through it with a mask, and is generated
+ * from a fixed seed so that runs are comparable.
+ */
+final class FSBenchmarkInputs {
+
+    static final int SIZE = 1024;
+    static final int MASK = SIZE - 1;
+
+    /** Kind of date strings fed to the parsing benchmarks. */
+    enum Mix {
+        /** Canonical dd.MM.yyyy dates */
+        VALID,
+        /** dd.MM.yyyy, MM.yyyy, yyyy and single-digit fields */
+        MULTI_FORMAT,
+        /** Strings that are not dates */
+        INVALID,
+        /** 80% valid, 10% multi-format and 10% invalid, as in real imports */
+        MIXED
+    }
+
+    // The parser leniently accepts anything that starts with digits, so rejects start with other characters
+    private static final String[] INVALID_SAMPLES = {
+        "", "abc", "n/a", "#N/A", "null", "  ", "..", "-", "?", "дата"
+    };
+
+    private FSBenchmarkInputs() {
+    }
+
+    static String[] dates(Mix mix) {
+        var random = new Random(42);
+        var result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = switch (mix) {
+                case VALID -> validDate(random);
+                case MULTI_FORMAT -> multiFormatDate(random);
+                case INVALID -> invalidDate(random);
+                case MIXED -> {
+                    int roll = random.nextInt(10);
+                    yield roll < 8 ? validDate(random) : roll == 8 ? multiFormatDate(random) : invalidDate(random);
+                }
+            };
+        }
+        return result;
+    }
+
+    static String[] validDates() {
+        return dates(Mix.VALID);
+    }
+
+    static String[] postgresDates() {
+        var random = new Random(43);
+        var result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = randomDate(random).toString();
+        }
+        return result;
+    }
+
+    static String[] dateTimes() {
+        var random = new Random(44);
+        var result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = validDate(random) + " " + time(random, true);
+        }
+        return result;
+    }
+
+    static String[] times() {
+        var random = new Random(45);
+        var result = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = time(random, random.nextBoolean());
+        }
+        return result;
+    }
+
+    static Date[] javaDates() {
+        var strings = validDates();
+        var result = new Date[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = FSDateUtils.dateFromString(strings[i]);
+        }
+        return result;
+    }
+
+    static LocalDate[] localDates() {
+        var random = new Random(46);
+        var result = new LocalDate[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            result[i] = randomDate(random);
+        }
+        return result;
+    }
+
+    static long[] durations() {
+        var random = new Random(47);
+        var result = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // From microseconds to a few days, spread evenly on a log scale
+            result[i] = (long) Math.pow(10, 3 + random.nextDouble() * 11);
+        }
+        return result;
+    }
+
+    private static LocalDate randomDate(Random random) {
+        return LocalDate.ofEpochDay(LocalDate.of(1950, 1, 1).toEpochDay() + random.nextInt(80 * 365));
+    }
+
+    private static String validDate(Random random) {
+        return FSEpochDayUtils.format((int) randomDate(random).toEpochDay());
+    }
+
+    private static String multiFormatDate(Random random) {
+        var date = randomDate(random);
+        return switch (random.nextInt(3)) {
+            case 0 -> String.format("%02d.%d", date.getMonthValue(), date.getYear());
+            case 1 -> Integer.toString(date.getYear());
+            default -> date.getDayOfMonth() + "." + date.getMonthValue() + "." + date.getYear();
+        };
+    }
+
+    private static String invalidDate(Random random) {
+        return INVALID_SAMPLES[random.nextInt(INVALID_SAMPLES.length)];
+    }
+
+    private static String time(Random random, boolean withSeconds) {
+        var time = String.format("%02d:%02d", random.nextInt(24), random.nextInt(60));
+        return withSeconds ? time + String.format(":%02d", random.nextInt(60)) : time;
+    }
+}
@@ -0,0 +1,101 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the getCurrent* family of {@link FSDateUtils}, with the
+ * cached-clock mode off and on. {@link Contended} runs the same methods on
+ * 4 threads, which is where the shared caches are read concurrently.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class FSCurrentTimeBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cachedClock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (cachedClock) {
+            FSDateUtils.enableCachedClock();
+        } else {
+            FSDateUtils.disableCachedClock();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FSDateUtils.disableCachedClock();
+    }
+
+    @Benchmark
+    public String getCurrentDate() {
+        return FSDateUtils.getCurrentDate();
+    }
+
+    @Benchmark
+    public Date getCurrentDateAsDate() {
+        return FSDateUtils.getCurrentDateAsDate();
+    }
+
+    @Benchmark
+    public LocalDate getCurrentLocalDate() {
+        return FSDateUtils.getCurrentLocalDate();
+    }
+
+    @Benchmark
+    public int getCurrentEpochDay() {
+        return FSDateUtils.getCurrentEpochDay();
+    }
+
+    @Benchmark
+    public String getCurrentTime() {
+        return FSDateUtils.getCurrentTime();
+    }
+
+    @Benchmark
+    public String getCurrentDateTime() {
+        return FSDateUtils.getCurrentDateTime();
+    }
+
+    @Benchmark
+    public String getCurrentDateTimeDesc() {
+        return FSDateUtils.getCurrentDateTimeDesc();
+    }
+
+    @Benchmark
+    public String getCurrentDateTimeSecondsDesc() {
+        return FSDateUtils.getCurrentDateTimeSecondsDesc();
+    }
+
+    @Benchmark
+    public String getCurrentDateTimeSeconds() {
+        return FSDateUtils.getCurrentDateTimeSeconds();
+    }
+
+    /** The same benchmarks with 4 threads. */
+    @Threads(4)
+    public static class Contended extends FSCurrentTimeBenchmark {
+    }
+}
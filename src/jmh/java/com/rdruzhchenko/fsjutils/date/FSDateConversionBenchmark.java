@@ -0,0 +1,111 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link FSDateUtils} methods that work on {@link Date},
+ * {@link LocalDate} and durations: formatting, conversion and day arithmetic
+ * in the default time zone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FSDateConversionBenchmark {
+
+    private Date[] dates;
+    private LocalDate[] localDates;
+    private long[] durations;
+    private StringBuilder buffer;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dates = FSBenchmarkInputs.javaDates();
+        localDates = FSBenchmarkInputs.localDates();
+        durations = FSBenchmarkInputs.durations();
+        buffer = new StringBuilder(64);
+    }
+
+    private int next() {
+        return index++ & FSBenchmarkInputs.MASK;
+    }
+
+    @Benchmark
+    public String dateToString() {
+        return FSDateUtils.dateToString(dates[next()]);
+    }
+
+    @Benchmark
+    public String getStringDateTimeFromDate() {
+        return FSDateUtils.getStringDateTimeFromDate(dates[next()]);
+    }
+
+    @Benchmark
+    public LocalDate dateToLocalDate() {
+        return FSDateUtils.dateToLocalDate(dates[next()]);
+    }
+
+    @Benchmark
+    public Date localDateToDate() {
+        return FSDateUtils.localDateToDate(localDates[next()]);
+    }
+
+    @Benchmark
+    public String dateByAddDays() {
+        return FSDateUtils.dateByAddDays(dates[next()], 30);
+    }
+
+    @Benchmark
+    public Date dateByAddDaysAsDate() {
+        return FSDateUtils.dateByAddDaysAsDate(dates[next()], 30);
+    }
+
+    @Benchmark
+    public int daysBetween() {
+        int i = next();
+        return FSDateUtils.daysBetween(dates[i], dates[(i + 1) & FSBenchmarkInputs.MASK]);
+    }
+
+    @Benchmark
+    public String formatDuration() {
+        return FSDateUtils.formatDuration(durations[next()]);
+    }
+
+    @Benchmark
+    public String formatDurationWithLabels() {
+        return FSDateUtils.formatDuration(durations[next()], FSDurationLabels.ENGLISH);
+    }
+
+    @Benchmark
+    public StringBuilder formatDurationIntoBuffer() {
+        buffer.setLength(0);
+        return FSDateUtils.formatDuration(durations[next()], buffer, FSDurationLabels.UKRAINIAN);
+    }
+
+    @Benchmark
+    public String calcElapsedTime() {
+        return FSDateUtils.calcElapsedTime(System.nanoTime() - durations[next()]);
+    }
+
+    @Benchmark
+    public StringBuilder calcElapsedTimeIntoBuffer() {
+        buffer.setLength(0);
+        return FSDateUtils.calcElapsedTime(System.nanoTime() - durations[next()], buffer, FSDurationLabels.UKRAINIAN);
+    }
+}
@@ -0,0 +1,143 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link FSDateUtils} methods that parse dd.MM.yyyy input,
+ * over valid, multi-format, invalid and mixed inputs, with and without the
+ * shared parse cache. {@link Contended} runs the same methods on 4 threads.
+ * Methods that reject an input return null or a marker instead of throwing,
+ * so that the cost of the exception is part of the measurement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class FSDateParsingBenchmark {
+
+    @Param({"VALID", "MULTI_FORMAT", "INVALID", "MIXED"})
+    public String mix;
+
+    @Param({"false", "true"})
+    public boolean parseCache;
+
+    private String[] dates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dates = FSBenchmarkInputs.dates(FSBenchmarkInputs.Mix.valueOf(mix));
+        if (parseCache) {
+            FSDateUtils.enableParseCache(4 * FSBenchmarkInputs.SIZE);
+        } else {
+            FSDateUtils.disableParseCache();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FSDateUtils.disableParseCache();
+    }
+
+    /** Position of a thread in the input mix. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    private String next(Cursor cursor) {
+        return dates[cursor.index++ & FSBenchmarkInputs.MASK];
+    }
+
+    @Benchmark
+    public Date dateFromString(Cursor cursor) {
+        try {
+            return FSDateUtils.dateFromString(next(cursor));
+        } catch (FSDateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public boolean isValidDate(Cursor cursor) {
+        return FSDateUtils.isValidDate(next(cursor));
+    }
+
+    @Benchmark
+    public int yearForDate(Cursor cursor) {
+        try {
+            return FSDateUtils.yearForDate(next(cursor));
+        } catch (RuntimeException e) {
+            // Rejects input with index and number format exceptions rather than FSDateException
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public String dateByAddDays(Cursor cursor) {
+        try {
+            return FSDateUtils.dateByAddDays(next(cursor), 30);
+        } catch (FSDateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String plusMonth(Cursor cursor) {
+        try {
+            return FSDateUtils.plusMonth(next(cursor), 1);
+        } catch (FSDateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String getWeekStart(Cursor cursor) {
+        try {
+            return FSDateUtils.getWeekStart(next(cursor));
+        } catch (FSDateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String getWeekEnd(Cursor cursor) {
+        try {
+            return FSDateUtils.getWeekEnd(next(cursor));
+        } catch (FSDateException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String stringToPostgres(Cursor cursor) {
+        try {
+            return FSDateUtils.stringToPostgres(next(cursor));
+        } catch (FSDateException e) {
+            return null;
+        }
+    }
+
+    /** The same benchmarks with 4 threads sharing the parse cache. */
+    @Threads(4)
+    public static class Contended extends FSDateParsingBenchmark {
+    }
+}
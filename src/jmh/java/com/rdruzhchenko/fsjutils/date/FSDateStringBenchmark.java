@@ -0,0 +1,116 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link FSDateUtils} methods that compare, slice or
+ * convert fixed-format date, date-time and time strings, over valid inputs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FSDateStringBenchmark {
+
+    private String[] dates;
+    private String[] postgresDates;
+    private String[] dateTimes;
+    private String[] times;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dates = FSBenchmarkInputs.validDates();
+        postgresDates = FSBenchmarkInputs.postgresDates();
+        dateTimes = FSBenchmarkInputs.dateTimes();
+        times = FSBenchmarkInputs.times();
+    }
+
+    private int next() {
+        return index++ & FSBenchmarkInputs.MASK;
+    }
+
+    // Pairs each input with its neighbour, so that both orderings occur
+    private static int neighbour(int i) {
+        return (i + 1) & FSBenchmarkInputs.MASK;
+    }
+
+    @Benchmark
+    public boolean isDateLessThan() {
+        int i = next();
+        return FSDateUtils.isDateLessThan(dates[i], dates[neighbour(i)]);
+    }
+
+    @Benchmark
+    public boolean isDateLessOrEqualsThan() {
+        int i = next();
+        return FSDateUtils.isDateLessOrEqualsThan(dates[i], dates[neighbour(i)]);
+    }
+
+    @Benchmark
+    public int compareDates() {
+        int i = next();
+        return FSDateUtils.compareDates(dateTimes[i], dateTimes[neighbour(i)]);
+    }
+
+    @Benchmark
+    public String getDay() {
+        return FSDateUtils.getDay(dates[next()]);
+    }
+
+    @Benchmark
+    public String getYear() {
+        return FSDateUtils.getYear(dates[next()]);
+    }
+
+    @Benchmark
+    public String getMonthWordInGenitiveCase() {
+        return FSDateUtils.getMonthWordInGenitiveCase(dates[next()]);
+    }
+
+    @Benchmark
+    public String postgresToString() {
+        return FSDateUtils.postgresToString(postgresDates[next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime dateStringToDateTime() {
+        return FSDateUtils.dateStringToDateTime(dates[next()]);
+    }
+
+    @Benchmark
+    public String getTimeFromDateTime() {
+        return FSDateUtils.getTimeFromDateTime(dateTimes[next()]);
+    }
+
+    @Benchmark
+    public String plusMinutesToTime() {
+        return FSDateUtils.plusMinutesToTime(times[next()], 45);
+    }
+
+    @Benchmark
+    public boolean isTimeLessThan() {
+        int i = next();
+        return FSDateUtils.isTimeLessThan(times[i], times[neighbour(i)]);
+    }
+
+    @Benchmark
+    public boolean isTimeGreaterThan() {
+        int i = next();
+        return FSDateUtils.isTimeGreaterThan(times[i], times[neighbour(i)]);
+    }
+}
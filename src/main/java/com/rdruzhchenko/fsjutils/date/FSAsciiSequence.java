@@ -0,0 +1,50 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Read-only view of a region of ASCII bytes as a {@link CharSequence}, so that
+ * the character-level parsers can read byte buffers without decoding them.
+ * Bytes outside ASCII map to characters 128 to 255 and never match a digit
+ * or a separator. Indexes are absolute, so the buffer position and limit are
+ * not used or changed.
+ */
+final class FSAsciiSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    FSAsciiSequence(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + Objects.checkIndex(index, length)) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new FSAsciiSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        var chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,279 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable working-day calendar over a fixed range of years.
+ *
+ * Weekend days and holidays are resolved once, when the calendar is built,
+ * into a prefix sum of working days and a table of working days. After that,
+ * checking a day, counting working days between two days and adding working
+ * days are constant-time array lookups. Days are epoch days, as in
+ * {@link FSEpochDayUtils}; string overloads accept the formats supported by
+ * {@link FSDateUtils#dateFromString(String)}.
+ *
+ * This class is thread-safe.
+ */
+public class FSBusinessCalendar {
+
+    /** Saturday and Sunday */
+    public static final Set<DayOfWeek> SATURDAY_SUNDAY = Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private final int firstYear;
+    private final int lastYear;
+    private final int firstDay;
+    // prefix[i] is the number of working days in [firstDay, firstDay + i)
+    private final int[] prefix;
+    // workingDays[k] is the offset from firstDay of the k-th working day
+    private final int[] workingDays;
+
+    /**
+     * Builds a calendar for the years firstYear..lastYear inclusive.
+     *
+     * @param firstYear The first year covered
+     * @param lastYear The last year covered
+     * @param weekend The days of week that are not working days
+     * @param holidays The non-working dates; dates outside the range are ignored
+     * @throws IllegalArgumentException if the range is empty, or weekend or holidays is null
+     */
+    public FSBusinessCalendar(int firstYear, int lastYear, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        if (firstYear > lastYear) {
+            throw new IllegalArgumentException("First year cannot be after last year");
+        }
+        if (weekend == null || holidays == null) {
+            throw new IllegalArgumentException("Weekend and holidays cannot be null");
+        }
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.firstDay = Math.toIntExact(LocalDate.of(firstYear, 1, 1).toEpochDay());
+        int dayCount = Math.toIntExact(LocalDate.of(lastYear + 1, 1, 1).toEpochDay() - firstDay);
+
+        var nonWorking = new boolean[dayCount];
+        for (var holiday : holidays) {
+            long offset = holiday.toEpochDay() - firstDay;
+            if (offset >= 0 && offset < dayCount) {
+                nonWorking[(int) offset] = true;
+            }
+        }
+        var weekendByDay = new boolean[8];
+        for (var day : weekend) {
+            weekendByDay[day.getValue()] = true;
+        }
+
+        prefix = new int[dayCount + 1];
+        int dayOfWeek = FSEpochDayUtils.dayOfWeek(firstDay);
+        for (int i = 0; i < dayCount; i++) {
+            boolean working = !nonWorking[i] && !weekendByDay[dayOfWeek];
+            prefix[i + 1] = prefix[i] + (working ? 1 : 0);
+            dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        }
+        workingDays = new int[prefix[dayCount]];
+        for (int i = 0; i < dayCount; i++) {
+            if (prefix[i + 1] != prefix[i]) {
+                workingDays[prefix[i]] = i;
+            }
+        }
+    }
+
+    /**
+     * Builds a calendar with a Saturday-Sunday weekend and the Ukrainian
+     * public holidays from {@link #ukrainianHolidays(int)}.
+     *
+     * @param firstYear The first year covered
+     * @param lastYear The last year covered
+     * @return The calendar
+     * @throws IllegalArgumentException if the range is empty
+     */
+    public static FSBusinessCalendar ukrainian(int firstYear, int lastYear) {
+        var holidays = new ArrayList<LocalDate>();
+        for (int year = firstYear; year <= lastYear; year++) {
+            holidays.addAll(ukrainianHolidays(year));
+        }
+        return new FSBusinessCalendar(firstYear, lastYear, SATURDAY_SUNDAY, holidays);
+    }
+
+    /**
+     * Gets the Ukrainian public holidays of a year as currently defined by
+     * the Labour Code: New Year (01.01), Women's Day (08.03), Orthodox Easter,
+     * Trinity (Easter + 49 days), Labour Day (01.05), Remembrance and Victory
+     * Day (08.05), Constitution Day (28.06), Statehood Day (15.07),
+     * Independence Day (24.08), Defenders Day (01.10) and Christmas (25.12).
+     * Holidays are not moved when they fall on a weekend.
+     *
+     * @param year The year
+     * @return The holidays in calendar order
+     */
+    public static List<LocalDate> ukrainianHolidays(int year) {
+        var easter = orthodoxEaster(year);
+        return List.of(
+            LocalDate.of(year, 1, 1),
+            LocalDate.of(year, 3, 8),
+            easter,
+            LocalDate.of(year, 5, 1),
+            LocalDate.of(year, 5, 8),
+            easter.plusDays(49),
+            LocalDate.of(year, 6, 28),
+            LocalDate.of(year, 7, 15),
+            LocalDate.of(year, 8, 24),
+            LocalDate.of(year, 10, 1),
+            LocalDate.of(year, 12, 25)
+        ).stream().sorted().toList();
+    }
+
+    /**
+     * Calculates the date of Orthodox Easter in the Gregorian calendar.
+     *
+     * @param year The year
+     * @return The Easter Sunday
+     */
+    public static LocalDate orthodoxEaster(int year) {
+        // Meeus' algorithm for the Julian calendar, shifted to Gregorian
+        int a = year % 4;
+        int b = year % 7;
+        int c = year % 19;
+        int d = (19 * c + 15) % 30;
+        int e = (2 * a + 4 * b - d + 34) % 7;
+        int month = (d + e + 114) / 31;
+        int day = (d + e + 114) % 31 + 1;
+        int julianShift = year / 100 - year / 400 - 2;
+        return LocalDate.of(year, month, day).plusDays(julianShift);
+    }
+
+    /**
+     * Gets the first year covered by this calendar.
+     *
+     * @return The first year
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * Gets the last year covered by this calendar.
+     *
+     * @return The last year
+     */
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * Checks if a day is a working day.
+     *
+     * @param epochDay The day as the number of days since 01.01.1970
+     * @return true if the day is neither a weekend day nor a holiday
+     * @throws FSDateException if the day is outside the calendar range
+     */
+    public boolean isWorkingDay(int epochDay) {
+        int i = offset(epochDay);
+        return prefix[i + 1] != prefix[i];
+    }
+
+    /**
+     * Checks if a date string is a working day.
+     *
+     * @param date The date string
+     * @return true if the day is neither a weekend day nor a holiday
+     * @throws FSDateException if the string cannot be parsed or is outside the calendar range
+     */
+    public boolean isWorkingDay(String date) {
+        return isWorkingDay(parse(date));
+    }
+
+    /**
+     * Counts the working days in [from, to). The result is negative if to is before from.
+     * Both bounds may be the day after the last day of the range.
+     *
+     * @param from The first day, inclusive
+     * @param to The last day, exclusive
+     * @return The number of working days
+     * @throws FSDateException if either day is outside the calendar range
+     */
+    public int workingDaysBetween(int from, int to) {
+        return prefix[boundary(to)] - prefix[boundary(from)];
+    }
+
+    /**
+     * Counts the working days from one date string (inclusive) to another (exclusive).
+     *
+     * @param from The first date
+     * @param to The last date, exclusive
+     * @return The number of working days
+     * @throws FSDateException if a string cannot be parsed or is outside the calendar range
+     */
+    public int workingDaysBetween(String from, String to) {
+        return workingDaysBetween(parse(from), parse(to));
+    }
+
+    /**
+     * Adds working days to a day. A positive count moves to the n-th working
+     * day after the given day, a negative count to the n-th working day
+     * before it; the given day itself is never counted. A count of 0 returns
+     * the day unchanged.
+     *
+     * @param epochDay The day as the number of days since 01.01.1970
+     * @param workingDays The number of working days to add
+     * @return The resulting epoch day
+     * @throws FSDateException if the day or the result is outside the calendar range
+     */
+    public int plusWorkingDays(int epochDay, int workingDays) {
+        int i = offset(epochDay);
+        if (workingDays == 0) {
+            return epochDay;
+        }
+        long rank = workingDays > 0 ? (long) prefix[i + 1] + workingDays - 1 : (long) prefix[i] + workingDays;
+        if (rank < 0 || rank >= this.workingDays.length) {
+            throw new FSDateException("Adding " + workingDays + " working days to " + FSEpochDayUtils.format(epochDay)
+                + " leaves the calendar range " + firstYear + ".." + lastYear);
+        }
+        return firstDay + this.workingDays[(int) rank];
+    }
+
+    /**
+     * Adds working days to a date string.
+     *
+     * @param date The date string
+     * @param workingDays The number of working days to add
+     * @return The resulting date in standard format (dd.MM.yyyy)
+     * @throws FSDateException if the string cannot be parsed or the result is outside the calendar range
+     */
+    public String plusWorkingDays(String date, int workingDays) {
+        return FSEpochDayUtils.format(plusWorkingDays(parse(date), workingDays));
+    }
+
+    private int offset(int epochDay) {
+        long offset = (long) epochDay - firstDay;
+        if (offset < 0 || offset >= prefix.length - 1) {
+            throw outOfRange(epochDay);
+        }
+        return (int) offset;
+    }
+
+    // Like offset, but also accepts the day right after the range as an exclusive bound
+    private int boundary(int epochDay) {
+        long offset = (long) epochDay - firstDay;
+        if (offset < 0 || offset >= prefix.length) {
+            throw outOfRange(epochDay);
+        }
+        return (int) offset;
+    }
+
+    private FSDateException outOfRange(int epochDay) {
+        return new FSDateException("Date " + FSEpochDayUtils.format(epochDay)
+            + " is outside the calendar range " + firstYear + ".." + lastYear);
+    }
+
+    private static int parse(String date) {
+        int epochDay = FSDateParser.parseEpochDay(date);
+        if (epochDay == FSDateParser.INVALID) {
+            throw new FSDateException("Failed to parse date string: \"" + date + "\"");
+        }
+        return epochDay;
+    }
+}
@@ -0,0 +1,155 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Coarse-grained clock that caches the rendered "current date/time" strings
+ * used by the {@code getCurrent*} methods of {@link FSDateUtils}.
+ *
+ * Second-resolution strings are re-rendered at most once per second and
+ * minute-resolution strings at most once per minute. Rendered values are
+ * published through immutable snapshots held in volatile fields, so a read
+ * costs a clock query and a volatile load; formatting only happens when a
+ * snapshot expires.
+ *
+ * The clock source is pluggable, which allows deterministic tests with a
+ * fixed or manually advanced {@link Clock}. This class is thread-safe.
+ */
+public class FSCachedClock {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final Clock clock;
+    private volatile SecondSnapshot secondSnapshot = new SecondSnapshot(Long.MIN_VALUE, Long.MIN_VALUE, null, null, null);
+    private volatile MinuteSnapshot minuteSnapshot = new MinuteSnapshot(Long.MIN_VALUE, Long.MIN_VALUE, null, null, null);
+
+    /**
+     * Creates a cached clock backed by the system clock in the default time zone.
+     */
+    public FSCachedClock() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a cached clock backed by the given clock.
+     *
+     * @param clock The clock providing the current instant and time zone
+     * @throws IllegalArgumentException if clock is null
+     */
+    public FSCachedClock(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the clock backing this cached clock.
+     *
+     * @return The underlying clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the current date (dd.MM.yyyy).
+     *
+     * @return The current date as a string
+     */
+    public String currentDate() {
+        return minute().date();
+    }
+
+    /**
+     * Gets the current time (HH:mm:ss).
+     *
+     * @return The current time as a string
+     */
+    public String currentTime() {
+        return second().time();
+    }
+
+    /**
+     * Gets the current date and time (dd.MM.yyyy HH:mm).
+     *
+     * @return The current date and time as a string
+     */
+    public String currentDateTime() {
+        return minute().dateTime();
+    }
+
+    /**
+     * Gets the current date and time in descending format (yyyy.MM.dd HH:mm).
+     *
+     * @return The current date and time in descending format
+     */
+    public String currentDateTimeDesc() {
+        return minute().dateTimeDesc();
+    }
+
+    /**
+     * Gets the current date and time with seconds (dd.MM.yyyy HH:mm:ss).
+     *
+     * @return The current date and time with seconds
+     */
+    public String currentDateTimeSeconds() {
+        return second().dateTimeSeconds();
+    }
+
+    /**
+     * Gets the current date and time with seconds in descending format (yyyy.MM.dd HH:mm:ss).
+     *
+     * @return The current date and time with seconds in descending format
+     */
+    public String currentDateTimeSecondsDesc() {
+        return second().dateTimeSecondsDesc();
+    }
+
+    private SecondSnapshot second() {
+        long now = clock.millis();
+        var snapshot = secondSnapshot;
+        if (now >= snapshot.validFrom() && now < snapshot.validUntil()) {
+            return snapshot;
+        }
+        var dateTime = toLocalDateTime(now);
+        long millisOfSecond = dateTime.getNano() / 1_000_000;
+        snapshot = new SecondSnapshot(now - millisOfSecond, now - millisOfSecond + MILLIS_PER_SECOND,
+            FSDateFormatters.TIME.format(dateTime),
+            FSDateFormatters.DATE_TIME.format(dateTime),
+            FSDateFormatters.DATE_TIME_SECONDS_DESC.format(dateTime));
+        secondSnapshot = snapshot;
+        return snapshot;
+    }
+
+    private MinuteSnapshot minute() {
+        long now = clock.millis();
+        var snapshot = minuteSnapshot;
+        if (now >= snapshot.validFrom() && now < snapshot.validUntil()) {
+            return snapshot;
+        }
+        var dateTime = toLocalDateTime(now);
+        long millisOfMinute = dateTime.getSecond() * MILLIS_PER_SECOND + dateTime.getNano() / 1_000_000;
+        snapshot = new MinuteSnapshot(now - millisOfMinute, now - millisOfMinute + MILLIS_PER_MINUTE,
+            FSDateFormatters.DATE_LONG.format(dateTime),
+            FSDateFormatters.DATE_TIME_NO_SECONDS.format(dateTime),
+            FSDateFormatters.DATE_TIME_DESC_NO_SECONDS.format(dateTime));
+        minuteSnapshot = snapshot;
+        return snapshot;
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), clock.getZone());
+    }
+
+    private record SecondSnapshot(long validFrom, long validUntil, String time,
+                                  String dateTimeSeconds, String dateTimeSecondsDesc) {
+    }
+
+    private record MinuteSnapshot(long validFrom, long validUntil, String date,
+                                  String dateTime, String dateTimeDesc) {
+    }
+}
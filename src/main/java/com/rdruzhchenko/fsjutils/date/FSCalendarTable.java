@@ -0,0 +1,137 @@
+package com.rdruzhchenko.fsjutils.date;
+
+/**
+ * Precomputed month table for the years {@value #FIRST_YEAR} to
+ * {@value #LAST_YEAR}, the range that business dates fall into.
+ *
+ * For every month of the range the table holds the epoch day of its first
+ * day and its length, so (year, month, day) to epoch day is one array read
+ * plus an addition, and epoch day to (year, month, day) is a binary search
+ * over about 2400 sorted month starts plus a subtraction. The table takes
+ * under 12 KB and is built once, without {@code java.time}.
+ *
+ * {@link FSEpochDayUtils} uses it for dates in the range and falls back to
+ * the general algorithms outside it, so every parsing and formatting fast
+ * path of the library goes through this table.
+ *
+ * This class is stateless and thread-safe.
+ */
+public class FSCalendarTable {
+
+    /** First year covered by the table. */
+    public static final int FIRST_YEAR = 1900;
+
+    /** Last year covered by the table. */
+    public static final int LAST_YEAR = 2100;
+
+    private static final int MONTHS = (LAST_YEAR - FIRST_YEAR + 1) * 12;
+
+    // Epoch day of 01.01.1900
+    private static final int FIRST_EPOCH_DAY = -25_567;
+
+    // MONTH_STARTS[MONTHS] is the day after the range, 01.01.2101
+    private static final int[] MONTH_STARTS = new int[MONTHS + 1];
+    private static final byte[] MONTH_LENGTHS = new byte[MONTHS];
+
+    static {
+        int epochDay = FIRST_EPOCH_DAY;
+        for (int i = 0; i < MONTHS; i++) {
+            int year = FIRST_YEAR + i / 12;
+            int month = i % 12 + 1;
+            int length = month == 2 ? (FSEpochDayUtils.isLeapYear(year) ? 29 : 28)
+                : month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+            MONTH_STARTS[i] = epochDay;
+            MONTH_LENGTHS[i] = (byte) length;
+            epochDay += length;
+        }
+        MONTH_STARTS[MONTHS] = epochDay;
+    }
+
+    /**
+     * Checks if a year is covered by the table.
+     *
+     * @param year The year
+     * @return true if the year is between {@value #FIRST_YEAR} and {@value #LAST_YEAR}
+     */
+    public static boolean covers(long year) {
+        return year >= FIRST_YEAR && year <= LAST_YEAR;
+    }
+
+    /**
+     * Checks if an epoch day is covered by the table.
+     *
+     * @param epochDay The epoch day
+     * @return true if the epoch day falls between 01.01.1900 and 31.12.2100
+     */
+    public static boolean coversEpochDay(int epochDay) {
+        return epochDay >= FIRST_EPOCH_DAY && epochDay < MONTH_STARTS[MONTHS];
+    }
+
+    /**
+     * Returns the epoch day of the first day of a month.
+     *
+     * @param year The year, from {@value #FIRST_YEAR} to {@value #LAST_YEAR}
+     * @param month The month, from 1 to 12
+     * @return The epoch day
+     * @throws IllegalArgumentException if the month is outside the table
+     */
+    public static int firstDayOfMonth(int year, int month) {
+        return MONTH_STARTS[index(year, month)];
+    }
+
+    /**
+     * Returns the number of days in a month. Years outside the table are
+     * computed with the leap-year rules.
+     *
+     * @param year The year
+     * @param month The month, from 1 to 12
+     * @return The number of days in the month
+     * @throws IllegalArgumentException if the month is not from 1 to 12
+     */
+    public static int lengthOfMonth(long year, int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be from 1 to 12: " + month);
+        }
+        if (covers(year)) {
+            return MONTH_LENGTHS[(int) (year - FIRST_YEAR) * 12 + month - 1];
+        }
+        return FSEpochDayUtils.lengthOfMonth(year, month);
+    }
+
+    /**
+     * Computes the epoch day of a date in the table, allowing days past the
+     * end of the month the same way {@link FSEpochDayUtils#toEpochDay} does.
+     */
+    static int toEpochDay(int year, int month, int day) {
+        return MONTH_STARTS[(year - FIRST_YEAR) * 12 + month - 1] + day - 1;
+    }
+
+    /**
+     * Decodes an epoch day in the table into year, month and day packed the
+     * same way as {@link FSEpochDayUtils#decode(int)}.
+     */
+    static long decode(int epochDay) {
+        int low = 0;
+        int high = MONTHS - 1;
+        // Find the last month that starts on or before the epoch day
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (MONTH_STARTS[mid] <= epochDay) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        long year = FIRST_YEAR + low / 12;
+        int month = low % 12 + 1;
+        int day = epochDay - MONTH_STARTS[low] + 1;
+        return (year << 9) | ((long) month << 5) | day;
+    }
+
+    private static int index(int year, int month) {
+        if (!covers(year) || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month " + month + " of year " + year + " is outside the calendar table");
+        }
+        return (year - FIRST_YEAR) * 12 + month - 1;
+    }
+}
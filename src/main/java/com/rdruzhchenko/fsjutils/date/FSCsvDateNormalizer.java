@@ -0,0 +1,308 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * File-level stage that rewrites date columns of a delimited text file into
+ * a canonical format, dd.MM.yyyy or yyyy-MM-dd.
+ *
+ * The input is memory-mapped and split into chunks that end on a line
+ * boundary. Chunks are rewritten in parallel into byte buffers and written
+ * to the output in their original order, with a bounded number of chunks in
+ * flight, so files larger than memory can be processed. Cells are read as
+ * ASCII bytes: canonical dd.MM.yyyy cells are checked with
+ * {@link FSDateValidator} and copied or permuted, and other cells are parsed
+ * with the rules of {@link FSDateUtils#dateFromString(String)} (dd.MM.yyyy,
+ * MM.yyyy or yyyy, with single-digit fields). No object is created per row.
+ *
+ * As in {@link FSDateTranscoder}, empty cells and cells that cannot be parsed
+ * (such as a header) are copied unchanged, and fields are split on the
+ * delimiter only; quoting is not supported. The delimiter must be an ASCII
+ * character, and the file must use an ASCII-compatible encoding such as UTF-8.
+ *
+ * This class is immutable and thread-safe.
+ */
+public class FSCsvDateNormalizer {
+
+    /** Default size of a chunk, before it is extended to the end of its last line. */
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private static final int DATE_LENGTH = FSEpochDayUtils.FORMATTED_LENGTH;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final byte delimiter;
+    private final boolean[] selected;
+    private final int chunkSize;
+
+    /**
+     * Creates a normalizer with the default chunk size.
+     *
+     * @param delimiter The field delimiter, an ASCII character
+     * @param columns The 0-based indexes of the date columns
+     * @throws IllegalArgumentException if the delimiter is not ASCII, is a line
+     *         terminator, or no columns are given, or a column index is negative
+     */
+    public FSCsvDateNormalizer(char delimiter, int... columns) {
+        this(delimiter, columns, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a normalizer.
+     *
+     * @param delimiter The field delimiter, an ASCII character
+     * @param columns The 0-based indexes of the date columns
+     * @param chunkSize The size of a chunk in bytes, before it is extended to
+     *                  the end of its last line
+     * @throws IllegalArgumentException if the delimiter is not ASCII, is a line
+     *         terminator, or no columns are given, a column index is negative,
+     *         or the chunk size is not positive
+     */
+    public FSCsvDateNormalizer(char delimiter, int[] columns, int chunkSize) {
+        if (delimiter >= 128 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line terminator");
+        }
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("At least one date column is required");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        int maxColumn = Arrays.stream(columns).max().getAsInt();
+        if (Arrays.stream(columns).min().getAsInt() < 0) {
+            throw new IllegalArgumentException("Column index cannot be negative");
+        }
+        this.delimiter = (byte) delimiter;
+        this.selected = new boolean[maxColumn + 1];
+        for (int column : columns) {
+            selected[column] = true;
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Rewrites the date columns of a file to dd.MM.yyyy.
+     *
+     * @param in The source file
+     * @param out The destination file; it is created or truncated
+     * @return The number of non-empty date cells that could not be converted
+     * @throws IOException if reading or writing fails
+     * @throws IllegalArgumentException if the source and the destination are the same file
+     */
+    public long normalize(Path in, Path out) throws IOException {
+        return normalize(in, out, false);
+    }
+
+    /**
+     * Rewrites the date columns of a file to yyyy-MM-dd.
+     *
+     * @param in The source file
+     * @param out The destination file; it is created or truncated
+     * @return The number of non-empty date cells that could not be converted
+     * @throws IOException if reading or writing fails
+     * @throws IllegalArgumentException if the source and the destination are the same file
+     */
+    public long normalizeToPostgres(Path in, Path out) throws IOException {
+        return normalize(in, out, true);
+    }
+
+    private long normalize(Path in, Path out, boolean toPostgres) throws IOException {
+        if (Files.exists(out) && Files.isSameFile(in, out)) {
+            throw new IllegalArgumentException("Source and destination must be different files");
+        }
+        try (var source = FileChannel.open(in, StandardOpenOption.READ);
+             var target = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                 StandardOpenOption.TRUNCATE_EXISTING)) {
+            long[] bounds = chunkBounds(source);
+            var pool = ForkJoinPool.commonPool();
+            int window = Math.max(2, 2 * pool.getParallelism());
+            var inFlight = new ArrayDeque<CompletableFuture<Chunk>>(window);
+            long unconverted = 0;
+            int next = 0;
+            try {
+                while (next < bounds.length - 1 || !inFlight.isEmpty()) {
+                    while (next < bounds.length - 1 && inFlight.size() < window) {
+                        long start = bounds[next];
+                        long end = bounds[++next];
+                        inFlight.add(CompletableFuture.supplyAsync(() -> rewrite(source, start, end, toPostgres), pool));
+                    }
+                    Chunk chunk = inFlight.remove().join();
+                    var data = ByteBuffer.wrap(chunk.data, 0, chunk.length);
+                    while (data.hasRemaining()) {
+                        target.write(data);
+                    }
+                    unconverted += chunk.unconverted;
+                }
+            } catch (CompletionException e) {
+                inFlight.forEach(future -> future.cancel(false));
+                if (e.getCause() instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+            return unconverted;
+        }
+    }
+
+    /**
+     * Splits a file into chunks of about the chunk size that end right after
+     * a line feed, or at the end of the file.
+     *
+     * @return The chunk boundaries, starting with 0 and ending with the file size
+     */
+    private long[] chunkBounds(FileChannel source) throws IOException {
+        long size = source.size();
+        var bounds = new long[(int) Math.min(Integer.MAX_VALUE - 8, size / chunkSize + 2)];
+        var scan = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        int count = 1;
+        long end = 0;
+        while (end < size) {
+            // Starting one byte early keeps a chunk that already ends with a line feed as it is
+            end = lineEndAfter(source, end + chunkSize - 1, size, scan);
+            if (end - bounds[count - 1] > Integer.MAX_VALUE) {
+                throw new IOException("A line of " + source + " is longer than " + Integer.MAX_VALUE + " bytes");
+            }
+            bounds[count++] = end;
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private static long lineEndAfter(FileChannel source, long position, long size, ByteBuffer scan) throws IOException {
+        while (position < size) {
+            scan.clear();
+            int read = source.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private Chunk rewrite(FileChannel source, long start, long end, boolean toPostgres) {
+        MappedByteBuffer in;
+        try {
+            in = source.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        var chunk = new Chunk(in, toPostgres);
+        int length = in.capacity();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && in.get(lineEnd++) != '\n') {
+                // Scanning to the end of the line
+            }
+            rewriteLine(chunk, lineStart, lineEnd);
+            lineStart = lineEnd;
+        }
+        return chunk;
+    }
+
+    /**
+     * Writes one line, including its line terminator, with the date columns rewritten.
+     */
+    private void rewriteLine(Chunk chunk, int start, int end) {
+        var in = chunk.in;
+        int copied = start;
+        int column = 0;
+        int fieldStart = start;
+        for (int i = start; ; i++) {
+            byte b = i < end ? in.get(i) : (byte) '\n';
+            if (b != delimiter && b != '\n' && b != '\r') {
+                continue;
+            }
+            if (column < selected.length && selected[column] && i > fieldStart) {
+                chunk.copy(copied, fieldStart);
+                chunk.rewriteDate(fieldStart, i);
+                copied = i;
+            }
+            if (b != delimiter || ++column == selected.length) {
+                break;
+            }
+            fieldStart = i + 1;
+        }
+        chunk.copy(copied, end);
+    }
+
+    /**
+     * One chunk of the input and its rewritten bytes.
+     */
+    private static final class Chunk {
+
+        private final MappedByteBuffer in;
+        private final FSAsciiSequence text;
+        private final boolean toPostgres;
+        private byte[] data;
+        private int length;
+        private long unconverted;
+
+        Chunk(MappedByteBuffer in, boolean toPostgres) {
+            this.in = in;
+            this.text = new FSAsciiSequence(in, 0, in.capacity());
+            this.toPostgres = toPostgres;
+            // Dates in other formats are at most a few bytes shorter, so growing is rare
+            this.data = new byte[in.capacity() + in.capacity() / 8 + DATE_LENGTH];
+        }
+
+        void copy(int start, int end) {
+            int count = end - start;
+            ensureCapacity(count);
+            in.get(start, data, length, count);
+            length += count;
+        }
+
+        void rewriteDate(int start, int end) {
+            ensureCapacity(DATE_LENGTH);
+            if (end - start == DATE_LENGTH && FSDateValidator.isValid(in, start)) {
+                if (toPostgres) {
+                    in.get(start + 6, data, length, 4);
+                    data[length + 4] = '-';
+                    in.get(start + 3, data, length + 5, 2);
+                    data[length + 7] = '-';
+                    in.get(start, data, length + 8, 2);
+                } else {
+                    in.get(start, data, length, DATE_LENGTH);
+                }
+                length += DATE_LENGTH;
+                return;
+            }
+            int epochDay = FSDateParser.parseEpochDay(text, start, end);
+            int year = epochDay == FSDateParser.INVALID ? -1 : FSEpochDayUtils.year(epochDay);
+            if (year < 0 || year > 9999) {
+                unconverted++;
+                copy(start, end);
+                return;
+            }
+            length = toPostgres
+                ? FSEpochDayUtils.formatPostgresTo(epochDay, data, length)
+                : FSEpochDayUtils.formatTo(epochDay, data, length);
+        }
+
+        private void ensureCapacity(int count) {
+            if (length + count > data.length) {
+                data = Arrays.copyOf(data, Math.max(length + count, data.length + (data.length >> 1)));
+            }
+        }
+    }
+}
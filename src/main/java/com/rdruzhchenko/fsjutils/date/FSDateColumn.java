@@ -0,0 +1,106 @@
+package com.rdruzhchenko.fsjutils.date;
+
+/**
+ * Result of parsing a column of date strings with {@link FSDateColumnUtils}.
+ * Holds one epoch day per row and a validity bitmap with one bit per row;
+ * rows that could not be parsed have their bit cleared and the
+ * {@link FSDateParser#INVALID} marker as their epoch day.
+ *
+ * The arrays are exposed without copying. Instances are safe to share
+ * between threads as long as the arrays are not modified.
+ */
+public class FSDateColumn {
+
+    private final int[] epochDays;
+    private final long[] validity;
+
+    FSDateColumn(int[] epochDays, long[] validity) {
+        this.epochDays = epochDays;
+        this.validity = validity;
+    }
+
+    /**
+     * Returns the number of rows in the column.
+     *
+     * @return The number of rows
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Returns the epoch day of a row.
+     *
+     * @param row The row index
+     * @return The epoch day, or {@link FSDateParser#INVALID} if the row is invalid
+     */
+    public int epochDay(int row) {
+        return epochDays[row];
+    }
+
+    /**
+     * Checks if a row was parsed successfully.
+     *
+     * @param row The row index
+     * @return true if the row holds a valid date, false otherwise
+     */
+    public boolean isValid(int row) {
+        return (validity[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the number of rows that could not be parsed.
+     *
+     * @return The number of invalid rows
+     */
+    public int invalidCount() {
+        int valid = 0;
+        for (long word : validity) {
+            valid += Long.bitCount(word);
+        }
+        return epochDays.length - valid;
+    }
+
+    /**
+     * Returns the index of the next invalid row at or after a given row.
+     *
+     * @param fromRow The row to start searching from
+     * @return The index of the next invalid row, or -1 if there is none
+     */
+    public int nextInvalidRow(int fromRow) {
+        if (fromRow >= epochDays.length) {
+            return -1;
+        }
+        int wordIndex = fromRow >>> 6;
+        long word = ~validity[wordIndex] & (-1L << fromRow);
+        while (true) {
+            if (word != 0) {
+                int row = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                return row < epochDays.length ? row : -1;
+            }
+            if (++wordIndex == validity.length) {
+                return -1;
+            }
+            word = ~validity[wordIndex];
+        }
+    }
+
+    /**
+     * Returns the epoch days of all rows. The array is not copied.
+     *
+     * @return The backing array of epoch days
+     */
+    public int[] epochDays() {
+        return epochDays;
+    }
+
+    /**
+     * Returns the validity bitmap, bit {@code row % 64} of word {@code row / 64}
+     * being set for valid rows. The array is not copied.
+     *
+     * @return The backing validity bitmap
+     */
+    public long[] validityBitmap() {
+        return validity;
+    }
+}
@@ -0,0 +1,193 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class for parsing whole columns of date strings at once.
+ * A column is parsed into a primitive array of epoch days plus a validity
+ * bitmap, using the same formats and leniency as
+ * {@link FSDateUtils#dateFromString(String)}. Cells that cannot be parsed
+ * (including null and empty ones) are flagged as invalid instead of
+ * throwing.
+ *
+ * Large columns can be parsed in parallel on the common fork/join pool,
+ * and parsed columns can be grouped by ISO week for aggregation.
+ * This class is stateless and thread-safe.
+ */
+public class FSDateColumnUtils {
+
+    /**
+     * Largest number of weeks, about 20 000 years, that {@link #bucketByWeek(FSDateColumn)}
+     * gives buckets to. The lenient parser accepts years far outside real data,
+     * so one bad cell could otherwise ask for a bucket array of any size.
+     */
+    public static final int MAX_WEEK_SPAN = 1 << 20;
+
+    // Rows per fork/join task; a multiple of 64 so tasks never share a bitmap word
+    private static final int PARALLEL_CHUNK_ROWS = 16 * 1024;
+
+    /**
+     * Parses a column of date strings.
+     *
+     * @param values The date strings
+     * @return The parsed column
+     */
+    public static FSDateColumn parse(String[] values) {
+        var column = newColumn(values.length);
+        parseRange(values, 0, values.length, column);
+        return column;
+    }
+
+    /**
+     * Parses a column of date strings.
+     *
+     * @param values The date strings
+     * @return The parsed column
+     */
+    public static FSDateColumn parse(List<String> values) {
+        var column = newColumn(values.size());
+        int row = 0;
+        for (String value : values) {
+            parseCell(value, row++, column);
+        }
+        return column;
+    }
+
+    /**
+     * Parses a column of date strings in parallel on the common fork/join pool.
+     * Small columns are parsed on the calling thread.
+     *
+     * @param values The date strings
+     * @return The parsed column
+     */
+    public static FSDateColumn parseParallel(String[] values) {
+        var column = newColumn(values.length);
+        if (values.length <= PARALLEL_CHUNK_ROWS) {
+            parseRange(values, 0, values.length, column);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ParseTask(values, 0, values.length, column));
+        }
+        return column;
+    }
+
+    /**
+     * Parses a column of date strings in parallel on the common fork/join pool.
+     * Small columns are parsed on the calling thread.
+     *
+     * @param values The date strings
+     * @return The parsed column
+     */
+    public static FSDateColumn parseParallel(List<String> values) {
+        return parseParallel(values.toArray(new String[0]));
+    }
+
+    /**
+     * Maps epoch days to ISO week indexes (see {@link FSEpochDayUtils#weekIndex(int)}).
+     * {@link FSDateParser#INVALID} entries stay {@link FSDateParser#INVALID}.
+     *
+     * @param epochDays The epoch days
+     * @return The week index of every element
+     */
+    public static int[] weekIndexes(int[] epochDays) {
+        int[] result = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            int epochDay = epochDays[i];
+            result[i] = epochDay == FSDateParser.INVALID ? FSDateParser.INVALID : FSEpochDayUtils.weekIndex(epochDay);
+        }
+        return result;
+    }
+
+    /**
+     * Groups the rows of a parsed column by ISO week.
+     *
+     * @param column The parsed column
+     * @return The week bucket of every row, numbered from the earliest week
+     * @throws IllegalArgumentException if the earliest and the latest week are
+     *         more than {@link #MAX_WEEK_SPAN} weeks apart
+     */
+    public static FSWeekBuckets bucketByWeek(FSDateColumn column) {
+        int size = column.size();
+        int minWeek = Integer.MAX_VALUE;
+        int maxWeek = Integer.MIN_VALUE;
+        for (int row = 0; row < size; row++) {
+            if (column.isValid(row)) {
+                int week = FSEpochDayUtils.weekIndex(column.epochDay(row));
+                minWeek = Math.min(minWeek, week);
+                maxWeek = Math.max(maxWeek, week);
+            }
+        }
+        if (minWeek > maxWeek) {
+            int[] buckets = new int[size];
+            Arrays.fill(buckets, -1);
+            return new FSWeekBuckets(0, buckets, new int[0]);
+        }
+
+        long span = (long) maxWeek - minWeek + 1;
+        if (span > MAX_WEEK_SPAN) {
+            throw new IllegalArgumentException("Column spans " + span + " weeks, more than " + MAX_WEEK_SPAN);
+        }
+
+        int[] buckets = new int[size];
+        int[] counts = new int[(int) span];
+        for (int row = 0; row < size; row++) {
+            if (column.isValid(row)) {
+                int bucket = FSEpochDayUtils.weekIndex(column.epochDay(row)) - minWeek;
+                buckets[row] = bucket;
+                counts[bucket]++;
+            } else {
+                buckets[row] = -1;
+            }
+        }
+        return new FSWeekBuckets(minWeek, buckets, counts);
+    }
+
+    private static FSDateColumn newColumn(int size) {
+        return new FSDateColumn(new int[size], new long[(size + 63) >>> 6]);
+    }
+
+    private static void parseRange(String[] values, int from, int to, FSDateColumn column) {
+        for (int row = from; row < to; row++) {
+            parseCell(values[row], row, column);
+        }
+    }
+
+    private static void parseCell(String value, int row, FSDateColumn column) {
+        int epochDay = FSDateParser.parseEpochDay(value);
+        column.epochDays()[row] = epochDay;
+        if (epochDay != FSDateParser.INVALID) {
+            column.validityBitmap()[row >>> 6] |= 1L << row;
+        }
+    }
+
+    private static class ParseTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String[] values;
+        private final int from;
+        private final int to;
+        private final FSDateColumn column;
+
+        ParseTask(String[] values, int from, int to, FSDateColumn column) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.column = column;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_CHUNK_ROWS) {
+                parseRange(values, from, to, column);
+                return;
+            }
+            int chunks = (to - from + PARALLEL_CHUNK_ROWS - 1) / PARALLEL_CHUNK_ROWS;
+            int middle = from + (chunks / 2) * PARALLEL_CHUNK_ROWS;
+            invokeAll(new ParseTask(values, from, middle, column),
+                new ParseTask(values, middle, to, column));
+        }
+    }
+}
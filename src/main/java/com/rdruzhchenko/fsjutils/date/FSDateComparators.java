@@ -0,0 +1,149 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Parse-free comparison of dd.MM.yyyy and dd.MM.yyyy HH:mm:ss strings.
+ *
+ * When both strings are canonical (fixed width, digits and separators in
+ * place, a real calendar date and time), the order is found by comparing
+ * the year, month, day and time characters in order of significance,
+ * without allocation. Otherwise both strings are fully parsed with the
+ * same lenient rules as {@link FSDateUtils}.
+ *
+ * This class is stateless and thread-safe.
+ */
+public class FSDateComparators {
+
+    /** Comparator for dd.MM.yyyy strings; throws FSDateException for unparseable strings. */
+    public static final Comparator<String> DATE_ORDER = FSDateComparators::compareDates;
+
+    /** Comparator for dd.MM.yyyy HH:mm:ss strings; throws FSDateException for unparseable strings. */
+    public static final Comparator<String> DATE_TIME_ORDER = FSDateComparators::compareDateTimes;
+
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_LENGTH = 19;
+
+    // Character positions in order of significance
+    private static final int[] DATE_POSITIONS = {6, 7, 8, 9, 3, 4, 0, 1};
+    private static final int[] DATE_TIME_POSITIONS = {6, 7, 8, 9, 3, 4, 0, 1, 11, 12, 14, 15, 17, 18};
+
+    /**
+     * Compares two date strings in the standard format (dd.MM.yyyy).
+     *
+     * @param date1 The first date string
+     * @param date2 The second date string
+     * @return -1 if date1 is earlier than date2, 0 if they are the same day, 1 if date1 is later
+     * @throws FSDateException if either date string cannot be parsed
+     */
+    public static int compareDates(String date1, String date2) {
+        if (isCanonicalDate(date1) && isCanonicalDate(date2)) {
+            return compareAt(date1, date2, DATE_POSITIONS);
+        }
+        return Integer.compare(parseDate(date1), parseDate(date2));
+    }
+
+    /**
+     * Compares two date-time strings in the format dd.MM.yyyy HH:mm:ss.
+     *
+     * @param dateTime1 The first date-time string
+     * @param dateTime2 The second date-time string
+     * @return -1 if dateTime1 is earlier than dateTime2, 0 if they are equal, 1 if dateTime1 is later
+     * @throws FSDateException if either date-time string cannot be parsed
+     */
+    public static int compareDateTimes(String dateTime1, String dateTime2) {
+        if (isCanonicalDateTime(dateTime1) && isCanonicalDateTime(dateTime2)) {
+            return compareAt(dateTime1, dateTime2, DATE_TIME_POSITIONS);
+        }
+        try {
+            var parsed1 = LocalDateTime.from(FSDateFormatters.LENIENT_DATE_TIME.parse(dateTime1, new ParsePosition(0)));
+            var parsed2 = LocalDateTime.from(FSDateFormatters.LENIENT_DATE_TIME.parse(dateTime2, new ParsePosition(0)));
+            return Integer.signum(parsed1.compareTo(parsed2));
+        } catch (DateTimeException e) {
+            throw new FSDateException("Invalid date format for comparison: \"" + dateTime1 + "\" or \"" + dateTime2 + "\". Expected format: " + FSDateUtils.DATE_TIME_FORMAT, e);
+        }
+    }
+
+    /**
+     * Checks if a string is a canonical dd.MM.yyyy date: exactly ten
+     * characters with two-digit day and month, four-digit year, and a day
+     * that exists in the month.
+     *
+     * @param s The string to check
+     * @return true if the string is a canonical date, false otherwise
+     */
+    public static boolean isCanonicalDate(String s) {
+        return s != null && s.length() == DATE_LENGTH && isCanonicalDateAt(s, 0);
+    }
+
+    /**
+     * Checks if a string is a canonical dd.MM.yyyy HH:mm:ss date-time.
+     *
+     * @param s The string to check
+     * @return true if the string is a canonical date-time, false otherwise
+     */
+    public static boolean isCanonicalDateTime(String s) {
+        if (s == null || s.length() != DATE_TIME_LENGTH || !isCanonicalDateAt(s, 0) || s.charAt(10) != ' '
+            || s.charAt(13) != ':' || s.charAt(16) != ':') {
+            return false;
+        }
+        int hours = twoDigits(s, 11);
+        int minutes = twoDigits(s, 14);
+        int seconds = twoDigits(s, 17);
+        return hours >= 0 && hours <= 23 && minutes >= 0 && minutes <= 59 && seconds >= 0 && seconds <= 59;
+    }
+
+    /**
+     * Checks if the ten characters at a position form a canonical dd.MM.yyyy date.
+     * The caller guarantees that the characters exist.
+     */
+    static boolean isCanonicalDateAt(CharSequence s, int start) {
+        if (s.charAt(start + 2) != '.' || s.charAt(start + 5) != '.') {
+            return false;
+        }
+        int day = twoDigits(s, start);
+        int month = twoDigits(s, start + 3);
+        int century = twoDigits(s, start + 6);
+        int yearOfCentury = twoDigits(s, start + 8);
+        if (day < 1 || month < 1 || month > 12 || century < 0 || yearOfCentury < 0) {
+            return false;
+        }
+        return day <= FSEpochDayUtils.lengthOfMonth(century * 100 + yearOfCentury, month);
+    }
+
+    private static int compareAt(String s1, String s2, int[] positions) {
+        for (int position : positions) {
+            int diff = s1.charAt(position) - s2.charAt(position);
+            if (diff != 0) {
+                return diff < 0 ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    private static int parseDate(String s) {
+        int epochDay = FSDateParser.parseEpochDay(s);
+        if (epochDay == FSDateParser.INVALID) {
+            throw new FSDateException("Failed to parse date string: \"" + s + "\". Expected format: " + FSDateUtils.DATE_FORMAT_LONG);
+        }
+        return epochDay;
+    }
+
+    /**
+     * Reads two decimal digits at a position.
+     *
+     * @return The value, or -1 if either character is not a digit
+     */
+    static int twoDigits(CharSequence s, int pos) {
+        int high = s.charAt(pos) - '0';
+        int low = s.charAt(pos + 1) - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            return -1;
+        }
+        return high * 10 + low;
+    }
+}
@@ -0,0 +1,150 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of pre-built, immutable {@link DateTimeFormatter} instances.
+ * All format constants used by {@link FSDateUtils} are compiled once when the
+ * class is loaded. Additional patterns can be registered at runtime; each
+ * pattern is compiled only once and then shared.
+ *
+ * This class is thread-safe: formatters are immutable and the registry is
+ * backed by a concurrent map.
+ */
+public class FSDateFormatters {
+
+    private static final ConcurrentMap<String, DateTimeFormatter> registry = new ConcurrentHashMap<>();
+
+    /** Formatter for dd.MM.yyyy (e.g., 31.12.2023) */
+    public static final DateTimeFormatter DATE_LONG = register(FSDateUtils.DATE_FORMAT_LONG);
+
+    /** Formatter for MM.yyyy (e.g., 12.2023) */
+    public static final DateTimeFormatter DATE_MIDDLE = register(FSDateUtils.DATE_FORMAT_MIDDLE);
+
+    /** Formatter for yyyy (e.g., 2023) */
+    public static final DateTimeFormatter DATE_SHORT = register(FSDateUtils.DATE_FORMAT_SHORT);
+
+    /** Formatter for HH:mm:ss (e.g., 23:59:59) */
+    public static final DateTimeFormatter TIME = register(FSDateUtils.TIME_FORMAT);
+
+    /** Formatter for dd.MM.yyyy HH:mm:ss (e.g., 31.12.2023 23:59:59) */
+    public static final DateTimeFormatter DATE_TIME = register(FSDateUtils.DATE_TIME_FORMAT);
+
+    /** Formatter for dd.MM.yyyy HH:mm (e.g., 31.12.2023 23:59) */
+    public static final DateTimeFormatter DATE_TIME_NO_SECONDS = register(FSDateUtils.DATE_TIME_FORMAT_NO_SECONDS);
+
+    /** Formatter for yyyy.MM.dd HH:mm (e.g., 2023.12.31 23:59) */
+    public static final DateTimeFormatter DATE_TIME_DESC_NO_SECONDS = register(FSDateUtils.DATE_TIME_DESC_FORMAT_NO_SECONDS);
+
+    /** Formatter for yyyy.MM.dd HH:mm:ss (e.g., 2023.12.31 23:59:59) */
+    public static final DateTimeFormatter DATE_TIME_SECONDS_DESC = register(FSDateUtils.DATE_TIME_SECONDS_DESC_FORMAT);
+
+    /** Formatter for yyyy-MM-dd (e.g., 2023-12-31) */
+    public static final DateTimeFormatter DATE_POSTGRES = register(FSDateUtils.DATE_FORMAT_POSTGRES);
+
+    // Lenient parsers reproducing the SimpleDateFormat behaviour the library
+    // has always had: fields of any width, overflowing values roll over
+    // (32.01.2023 is 01.02.2023) and trailing text is ignored.
+    static final DateTimeFormatter LENIENT_DATE_TIME = lenientParser(FSDateUtils.DATE_TIME_FORMAT);
+
+    /**
+     * Returns the formatter for the given pattern, compiling and registering
+     * it on first use. Subsequent calls with the same pattern return the same
+     * instance.
+     *
+     * @param pattern The pattern as accepted by {@link DateTimeFormatter#ofPattern(String)}
+     * @return The shared formatter for the pattern
+     * @throws FSDateException if the pattern is null or invalid
+     */
+    public static DateTimeFormatter get(String pattern) {
+        if (pattern == null) {
+            throw new FSDateException("Date pattern cannot be null");
+        }
+        var formatter = registry.get(pattern);
+        if (formatter != null) {
+            return formatter;
+        }
+        return register(pattern);
+    }
+
+    /**
+     * Registers a pattern so that it is compiled once up front.
+     * Registering an already known pattern returns the existing formatter.
+     *
+     * @param pattern The pattern as accepted by {@link DateTimeFormatter#ofPattern(String)}
+     * @return The shared formatter for the pattern
+     * @throws FSDateException if the pattern is null or invalid
+     */
+    public static DateTimeFormatter register(String pattern) {
+        if (pattern == null) {
+            throw new FSDateException("Date pattern cannot be null");
+        }
+        try {
+            return registry.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+        } catch (IllegalArgumentException e) {
+            throw new FSDateException("Invalid date pattern: \"" + pattern + "\"", e);
+        }
+    }
+
+    /**
+     * Checks whether a pattern has already been compiled and registered.
+     *
+     * @param pattern The pattern to check
+     * @return true if the pattern is registered, false otherwise
+     */
+    public static boolean isRegistered(String pattern) {
+        return pattern != null && registry.containsKey(pattern);
+    }
+
+    /**
+     * Builds a lenient parser for a pattern made of the letters d, M, y, H,
+     * m and s separated by literals.
+     *
+     * @param pattern The pattern to build the parser for
+     * @return The lenient parser
+     */
+    private static DateTimeFormatter lenientParser(String pattern) {
+        var builder = new DateTimeFormatterBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char ch = pattern.charAt(i);
+            int end = i;
+            while (end < pattern.length() && pattern.charAt(end) == ch) {
+                end++;
+            }
+            var field = fieldForLetter(ch);
+            if (field != null) {
+                builder.appendValue(field, 1, 10, SignStyle.NORMAL);
+            } else {
+                builder.appendLiteral(pattern.substring(i, end));
+            }
+            i = end;
+        }
+        if (pattern.indexOf('d') < 0) {
+            builder.parseDefaulting(ChronoField.DAY_OF_MONTH, 1);
+        }
+        if (pattern.indexOf('M') < 0) {
+            builder.parseDefaulting(ChronoField.MONTH_OF_YEAR, 1);
+        }
+        return builder.toFormatter().withResolverStyle(ResolverStyle.LENIENT);
+    }
+
+    private static ChronoField fieldForLetter(char ch) {
+        return switch (ch) {
+            case 'd' -> ChronoField.DAY_OF_MONTH;
+            case 'M' -> ChronoField.MONTH_OF_YEAR;
+            case 'y' -> ChronoField.YEAR;
+            case 'H' -> ChronoField.HOUR_OF_DAY;
+            case 'm' -> ChronoField.MINUTE_OF_HOUR;
+            case 's' -> ChronoField.SECOND_OF_MINUTE;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,340 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded, concurrent cache from date strings to epoch days (or the
+ * {@link FSDateParser#INVALID} marker), for inputs where a few thousand
+ * distinct dates repeat across many rows.
+ *
+ * Lookups never block. A hit is a {@link ConcurrentHashMap#get(Object)}
+ * followed by recording the key's hash in a small read buffer, striped by
+ * thread so that threads on different cores do not write the same cache line.
+ * On a miss the string is parsed, and the result is inserted only if the
+ * insert lock is free, so misses never wait for each other either.
+ *
+ * Eviction is scan resistant: resident entries are swept with the CLOCK
+ * algorithm (a hit sets a reference bit that buys the entry one more round),
+ * and a new key only replaces the CLOCK victim if a count-min frequency
+ * sketch (TinyLFU) estimates it to be more popular. A one-off scan over many
+ * distinct dates therefore does not flush the hot set. The sketch, and its
+ * periodic aging, are only touched under the insert lock: the read buffer is
+ * drained into it on inserts and whenever a stripe fills up and the lock is
+ * free. The read buffer is lossy; hits recorded while a full stripe cannot be
+ * drained overwrite older ones, which only makes an estimate less precise.
+ *
+ * This class is thread-safe.
+ */
+public class FSDateParseCache {
+
+    // Longer strings are parsed but never cached, to bound the memory per entry
+    private static final int MAX_KEY_LENGTH = 32;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+    // A stripe is a write counter followed by its slots, padded so that stripes never share a cache line
+    private static final int STRIPE_SLOTS = 16;
+    private static final int STRIPE_SIZE = 48;
+    private static final int MAX_STRIPES = 64;
+
+    private final int capacity;
+    private final ToIntFunction<String> parser;
+    private final ConcurrentHashMap<String, Entry> map;
+    private final ReentrantLock insertLock = new ReentrantLock();
+    private final Entry[] ring;
+    private int size;
+    private int hand;
+
+    private final long[] sketch;
+    private final int sampleSize;
+    private int additions;
+
+    private final AtomicIntegerArray readBuffer;
+    private final int stripeMask;
+    private final int[] drained;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache in front of {@link FSDateParser#parseEpochDay(String)}.
+     *
+     * @param capacity The maximum number of cached strings
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public FSDateParseCache(int capacity) {
+        this(capacity, FSDateParser::parseEpochDay);
+    }
+
+    /**
+     * Creates a cache in front of a parser.
+     *
+     * @param capacity The maximum number of cached strings
+     * @param parser The parser returning an epoch day or {@link FSDateParser#INVALID}
+     * @throws IllegalArgumentException if capacity is not positive or parser is null
+     */
+    public FSDateParseCache(int capacity, ToIntFunction<String> parser) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (parser == null) {
+            throw new IllegalArgumentException("Parser cannot be null");
+        }
+        this.capacity = capacity;
+        this.parser = parser;
+        this.map = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+        this.ring = new Entry[capacity];
+        this.sketch = new long[Math.max(8, Integer.highestOneBit(Math.min(capacity, 1 << 29) - 1) << 1)];
+        this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+        int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 1);
+        this.readBuffer = new AtomicIntegerArray(stripes * STRIPE_SIZE);
+        this.stripeMask = stripes - 1;
+        this.drained = new int[stripes];
+    }
+
+    /**
+     * Parses a date string, using the cached result when there is one.
+     *
+     * @param text The string to parse
+     * @return The number of days since 01.01.1970, or {@link FSDateParser#INVALID}
+     *         if the string is null or cannot be parsed
+     */
+    public int parseEpochDay(String text) {
+        if (text == null) {
+            return FSDateParser.INVALID;
+        }
+        if (text.length() > MAX_KEY_LENGTH) {
+            misses.increment();
+            return parser.applyAsInt(text);
+        }
+        int hash = spread(text.hashCode());
+        var entry = map.get(text);
+        if (entry != null) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hits.increment();
+            record(hash);
+            return entry.epochDay;
+        }
+        misses.increment();
+        int epochDay = parser.applyAsInt(text);
+        if (insertLock.tryLock()) {
+            try {
+                drainReadBuffer();
+                increment(hash);
+                insert(text, hash, epochDay);
+            } finally {
+                insertLock.unlock();
+            }
+        } else {
+            record(hash);
+        }
+        return epochDay;
+    }
+
+    /**
+     * Gets the maximum number of cached strings.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of cached strings.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups that had to parse the string.
+     *
+     * @return The miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted to make room for new ones.
+     *
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Removes all entries and resets the frequency sketch. The counters are kept.
+     */
+    public void clear() {
+        insertLock.lock();
+        try {
+            map.clear();
+            Arrays.fill(ring, null);
+            Arrays.fill(sketch, 0L);
+            for (int stripe = 0; stripe < drained.length; stripe++) {
+                int base = stripe * STRIPE_SIZE;
+                for (int slot = 1; slot <= STRIPE_SLOTS; slot++) {
+                    readBuffer.set(base + slot, 0);
+                }
+                drained[stripe] = readBuffer.get(base);
+            }
+            size = 0;
+            hand = 0;
+            additions = 0;
+        } finally {
+            insertLock.unlock();
+        }
+    }
+
+    // Called with insertLock held
+    private void insert(String key, int hash, int epochDay) {
+        if (map.containsKey(key)) {
+            return;
+        }
+        if (size < capacity) {
+            var entry = new Entry(key, epochDay, size);
+            ring[size++] = entry;
+            map.put(key, entry);
+            return;
+        }
+        var victim = nextVictim();
+        if (frequency(hash) <= frequency(spread(victim.key.hashCode()))) {
+            return;
+        }
+        map.remove(victim.key);
+        var entry = new Entry(key, epochDay, victim.slot);
+        ring[victim.slot] = entry;
+        map.put(key, entry);
+        evictions.increment();
+    }
+
+    private Entry nextVictim() {
+        while (true) {
+            var entry = ring[hand];
+            hand = hand + 1 == capacity ? 0 : hand + 1;
+            if (!entry.referenced) {
+                return entry;
+            }
+            entry.referenced = false;
+        }
+    }
+
+    /**
+     * Records the hash of a key in the read buffer stripe of the current thread,
+     * and drains the buffer if that filled the stripe and the insert lock is free.
+     */
+    private void record(int hash) {
+        int base = (spread((int) Thread.currentThread().getId()) & stripeMask) * STRIPE_SIZE;
+        int position = readBuffer.getAndIncrement(base) & (STRIPE_SLOTS - 1);
+        readBuffer.lazySet(base + 1 + position, hash);
+        if (position == STRIPE_SLOTS - 1 && insertLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                insertLock.unlock();
+            }
+        }
+    }
+
+    // Called with insertLock held
+    private void drainReadBuffer() {
+        for (int stripe = 0; stripe < drained.length; stripe++) {
+            int base = stripe * STRIPE_SIZE;
+            int written = readBuffer.get(base);
+            // Hashes older than the last STRIPE_SLOTS writes have been overwritten
+            int pending = (int) Math.min(Integer.toUnsignedLong(written - drained[stripe]), STRIPE_SLOTS);
+            for (int i = written - pending; i != written; i++) {
+                // A slot still holding 0 has been claimed by a writer that has not stored its hash yet
+                int hash = readBuffer.getAndSet(base + 1 + (i & (STRIPE_SLOTS - 1)), 0);
+                if (hash != 0) {
+                    increment(hash);
+                }
+            }
+            drained[stripe] = written;
+        }
+    }
+
+    // Called with insertLock held
+    private void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < SKETCH_DEPTH; i++) {
+            int h = rehash(hash, i);
+            int index = h & (sketch.length - 1);
+            int shift = ((h >>> 24) & 15) << 2;
+            long word = sketch[index];
+            if (((word >>> shift) & 15L) < 15) {
+                sketch[index] = word + (1L << shift);
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            age();
+        }
+    }
+
+    private int frequency(int hash) {
+        int frequency = 15;
+        for (int i = 0; i < SKETCH_DEPTH; i++) {
+            int h = rehash(hash, i);
+            int shift = ((h >>> 24) & 15) << 2;
+            frequency = Math.min(frequency, (int) ((sketch[h & (sketch.length - 1)] >>> shift) & 15L));
+        }
+        return frequency;
+    }
+
+    // Halves all counters so that the sketch follows changes in popularity
+    private void age() {
+        for (int i = 0; i < sketch.length; i++) {
+            sketch[i] = (sketch[i] >>> 1) & RESET_MASK;
+        }
+        additions = sampleSize / 2;
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9E37_79B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int rehash(int hash, int row) {
+        int h = (hash + row) * 0x85EB_CA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2_AE35;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        final String key;
+        final int epochDay;
+        final int slot;
+        volatile boolean referenced;
+
+        Entry(String key, int epochDay, int slot) {
+            this.key = key;
+            this.epochDay = epochDay;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,580 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Allocation-free parser for the date formats accepted by
+ * {@link FSDateUtils#dateFromString(String)}: dd.MM.yyyy, MM.yyyy and yyyy.
+ *
+ * The format is picked in a single pass from the position of the dots, and
+ * the result is produced directly as an epoch day. Failures are reported
+ * with the {@link #INVALID} marker instead of exceptions.
+ *
+ * Every format can also be parsed from a region of a {@link CharSequence}
+ * (use {@link java.nio.CharBuffer#wrap(char[])} for a char array) or of
+ * ASCII bytes in a byte array or {@link ByteBuffer}, including memory-mapped
+ * ones, so that readers can parse fields without creating a String for each.
+ *
+ * The parser keeps the leniency the library has always had:
+ * - spaces and tabs before a field are skipped
+ * - fields may have any number of digits (1.2.2023 is 01.02.2023)
+ * - fields of dd.MM.yyyy, MM.yyyy and yyyy may be negative (-1.01.2023 is 30.12.2022)
+ * - overflowing values roll over (32.01.2023 is 01.02.2023)
+ * - text after the last field is ignored
+ *
+ * This class is stateless and thread-safe.
+ */
+public class FSDateParser {
+
+    /** Marker returned when a string cannot be parsed. */
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    /** Marker returned when a date-time string cannot be parsed to epoch minutes. */
+    public static final long INVALID_MINUTE = Long.MIN_VALUE;
+
+    /** Marker returned when a date-time string cannot be parsed to epoch seconds. */
+    public static final long INVALID_SECOND = Long.MIN_VALUE;
+
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    // Fields longer than this are rejected to keep the arithmetic in range
+    private static final int MAX_FIELD_DIGITS = 9;
+
+    private static final long MIN_YEAR = -999_999_999L;
+    private static final long MAX_YEAR = 999_999_999L;
+
+    // Returned by the field readers when there is no field; a field holding a
+    // negative value still has a non-negative end index, so it never equals this
+    private static final long NO_FIELD = -1L;
+
+    /**
+     * Parses a date string in one of the formats dd.MM.yyyy, MM.yyyy or yyyy.
+     *
+     * @param text The string to parse
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         string is null or cannot be parsed
+     */
+    public static int parseEpochDay(String text) {
+        if (text == null) {
+            return INVALID;
+        }
+        return parseEpochDay(text, 0, text.length());
+    }
+
+    /**
+     * Parses a date in one of the formats dd.MM.yyyy, MM.yyyy or yyyy
+     * occupying a region of a character sequence.
+     *
+     * @param text The characters to parse
+     * @param start The index of the first character of the date
+     * @param end The index after the last character of the date
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         region cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parseEpochDay(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        long first = readSignedField(text, start, end);
+        if (first == NO_FIELD) {
+            return INVALID;
+        }
+        int pos = fieldEnd(first);
+        if (pos < end && text.charAt(pos) == '.') {
+            long second = readSignedField(text, pos + 1, end);
+            if (second != NO_FIELD) {
+                pos = fieldEnd(second);
+                if (pos < end && text.charAt(pos) == '.') {
+                    long third = readSignedField(text, pos + 1, end);
+                    if (third != NO_FIELD) {
+                        return lenientEpochDay(fieldValue(third), fieldValue(second), fieldValue(first));
+                    }
+                }
+                return lenientEpochDay(fieldValue(second), fieldValue(first), 1);
+            }
+        }
+        return lenientEpochDay(fieldValue(first), 1, 1);
+    }
+
+    /**
+     * Parses a date in one of the formats dd.MM.yyyy, MM.yyyy or yyyy
+     * from ASCII bytes.
+     *
+     * @param bytes The bytes to parse
+     * @param offset The index of the first byte of the date
+     * @param length The number of bytes of the date
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         bytes cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parseEpochDay(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return parseEpochDay(bytes, null, offset, offset + length);
+    }
+
+    /**
+     * Parses a date in one of the formats dd.MM.yyyy, MM.yyyy or yyyy
+     * from ASCII bytes at absolute indexes of a buffer. The buffer position
+     * and limit are not used or changed.
+     *
+     * @param buffer The buffer to parse
+     * @param offset The index of the first byte of the date
+     * @param length The number of bytes of the date
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         bytes cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parseEpochDay(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return parseEpochDay(null, buffer, offset, offset + length);
+    }
+
+    /**
+     * Parses a date string in one of the formats dd.MM.yyyy, MM.yyyy or yyyy.
+     *
+     * @param text The string to parse
+     * @return The LocalDate, or null if the string is null or cannot be parsed
+     */
+    public static LocalDate parseLocalDate(String text) {
+        int epochDay = parseEpochDay(text);
+        if (epochDay == INVALID) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Parses a date string in PostgreSQL format (yyyy-MM-dd) with the same
+     * leniency rules as {@link #parseEpochDay(String)}.
+     *
+     * @param text The string to parse
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         string is null or cannot be parsed
+     */
+    public static int parsePostgresEpochDay(String text) {
+        if (text == null) {
+            return INVALID;
+        }
+        return parsePostgresEpochDay(text, 0, text.length());
+    }
+
+    /**
+     * Parses a date in PostgreSQL format (yyyy-MM-dd) occupying a region of
+     * a character sequence.
+     *
+     * @param text The characters to parse
+     * @param start The index of the first character of the date
+     * @param end The index after the last character of the date
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         region cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parsePostgresEpochDay(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        long year = readField(text, start, end);
+        if (year < 0) {
+            return INVALID;
+        }
+        int pos = fieldEnd(year);
+        if (pos >= end || text.charAt(pos) != '-') {
+            return INVALID;
+        }
+        long month = readField(text, pos + 1, end);
+        if (month < 0) {
+            return INVALID;
+        }
+        pos = fieldEnd(month);
+        if (pos >= end || text.charAt(pos) != '-') {
+            return INVALID;
+        }
+        long day = readField(text, pos + 1, end);
+        if (day < 0) {
+            return INVALID;
+        }
+        return lenientEpochDay(fieldValue(year), fieldValue(month), fieldValue(day));
+    }
+
+    /**
+     * Parses a date in PostgreSQL format (yyyy-MM-dd) from ASCII bytes.
+     *
+     * @param bytes The bytes to parse
+     * @param offset The index of the first byte of the date
+     * @param length The number of bytes of the date
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         bytes cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parsePostgresEpochDay(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return parsePostgresEpochDay(bytes, null, offset, offset + length);
+    }
+
+    /**
+     * Parses a date in PostgreSQL format (yyyy-MM-dd) from ASCII bytes at
+     * absolute indexes of a buffer. The buffer position and limit are not
+     * used or changed.
+     *
+     * @param buffer The buffer to parse
+     * @param offset The index of the first byte of the date
+     * @param length The number of bytes of the date
+     * @return The number of days since 01.01.1970, or {@link #INVALID} if the
+     *         bytes cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parsePostgresEpochDay(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return parsePostgresEpochDay(null, buffer, offset, offset + length);
+    }
+
+    /**
+     * Parses a date-time string in one of the formats dd.MM.yyyy HH:mm,
+     * dd.MM.yyyy HH:mm:ss or dd.MM.yyyy to minutes since 01.01.1970 00:00.
+     * Seconds are ignored and a missing time means midnight. The date part
+     * must have all three fields; otherwise the leniency rules of
+     * {@link #parseEpochDay(String)} apply, and overflowing hours and
+     * minutes roll over into the next day.
+     *
+     * @param text The string to parse
+     * @return The number of minutes since the epoch, or {@link #INVALID_MINUTE}
+     *         if the string is null or cannot be parsed
+     */
+    public static long parseEpochMinute(String text) {
+        if (text == null) {
+            return INVALID_MINUTE;
+        }
+        long epochSecond = parseDateTime(text, 0, text.length(), false);
+        return epochSecond == INVALID_SECOND ? INVALID_MINUTE : epochSecond / 60;
+    }
+
+    /**
+     * Parses a date-time string in one of the formats dd.MM.yyyy HH:mm:ss,
+     * dd.MM.yyyy HH:mm or dd.MM.yyyy to seconds since 01.01.1970 00:00:00.
+     * A missing time means midnight and missing seconds mean 0; otherwise
+     * the rules of {@link #parseEpochMinute(String)} apply, and overflowing
+     * seconds roll over as well.
+     *
+     * @param text The string to parse
+     * @return The number of seconds since the epoch, or {@link #INVALID_SECOND}
+     *         if the string is null or cannot be parsed
+     */
+    public static long parseEpochSecond(String text) {
+        if (text == null) {
+            return INVALID_SECOND;
+        }
+        return parseDateTime(text, 0, text.length(), true);
+    }
+
+    /**
+     * Parses a date-time in one of the formats dd.MM.yyyy HH:mm:ss,
+     * dd.MM.yyyy HH:mm or dd.MM.yyyy occupying a region of a character
+     * sequence, see {@link #parseEpochSecond(String)}.
+     *
+     * @param text The characters to parse
+     * @param start The index of the first character of the date-time
+     * @param end The index after the last character of the date-time
+     * @return The number of seconds since the epoch, or {@link #INVALID_SECOND}
+     *         if the region cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static long parseEpochSecond(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        return parseDateTime(text, start, end, true);
+    }
+
+    /**
+     * Parses a date-time in one of the formats dd.MM.yyyy HH:mm:ss,
+     * dd.MM.yyyy HH:mm or dd.MM.yyyy from ASCII bytes.
+     *
+     * @param bytes The bytes to parse
+     * @param offset The index of the first byte of the date-time
+     * @param length The number of bytes of the date-time
+     * @return The number of seconds since the epoch, or {@link #INVALID_SECOND}
+     *         if the bytes cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static long parseEpochSecond(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return parseDateTime(bytes, null, offset, offset + length);
+    }
+
+    /**
+     * Parses a date-time in one of the formats dd.MM.yyyy HH:mm:ss,
+     * dd.MM.yyyy HH:mm or dd.MM.yyyy from ASCII bytes at absolute indexes of
+     * a buffer. The buffer position and limit are not used or changed.
+     *
+     * @param buffer The buffer to parse
+     * @param offset The index of the first byte of the date-time
+     * @param length The number of bytes of the date-time
+     * @return The number of seconds since the epoch, or {@link #INVALID_SECOND}
+     *         if the bytes cannot be parsed
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static long parseEpochSecond(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return parseDateTime(null, buffer, offset, offset + length);
+    }
+
+    private static long parseDateTime(CharSequence text, int start, int end, boolean withSeconds) {
+        long day = readField(text, start, end);
+        if (day < 0 || fieldEnd(day) >= end || text.charAt(fieldEnd(day)) != '.') {
+            return INVALID_SECOND;
+        }
+        long month = readField(text, fieldEnd(day) + 1, end);
+        if (month < 0 || fieldEnd(month) >= end || text.charAt(fieldEnd(month)) != '.') {
+            return INVALID_SECOND;
+        }
+        long year = readField(text, fieldEnd(month) + 1, end);
+        if (year < 0) {
+            return INVALID_SECOND;
+        }
+        int epochDay = lenientEpochDay(fieldValue(year), fieldValue(month), fieldValue(day));
+        if (epochDay == INVALID) {
+            return INVALID_SECOND;
+        }
+        long seconds = 0;
+        long hour = readField(text, fieldEnd(year), end);
+        if (hour >= 0) {
+            int pos = fieldEnd(hour);
+            if (pos >= end || text.charAt(pos) != ':') {
+                return INVALID_SECOND;
+            }
+            long minute = readField(text, pos + 1, end);
+            if (minute < 0) {
+                return INVALID_SECOND;
+            }
+            seconds = fieldValue(hour) * 3600L + fieldValue(minute) * 60L;
+            pos = fieldEnd(minute);
+            if (withSeconds && pos < end && text.charAt(pos) == ':') {
+                // Like any other trailing text, a colon without digits is ignored
+                long second = readField(text, pos + 1, end);
+                if (second >= 0) {
+                    seconds += fieldValue(second);
+                }
+            }
+        }
+        return (long) epochDay * SECONDS_PER_DAY + seconds;
+    }
+
+    // Twins of the CharSequence routines for ASCII bytes. They read from the
+    // array if it is not null and from the buffer otherwise, with absolute
+    // indexes, so that byte input is parsed without a wrapper object.
+
+    private static int parseEpochDay(byte[] array, ByteBuffer buffer, int start, int end) {
+        long first = readSignedField(array, buffer, start, end);
+        if (first == NO_FIELD) {
+            return INVALID;
+        }
+        int pos = fieldEnd(first);
+        if (pos < end && byteAt(array, buffer, pos) == '.') {
+            long second = readSignedField(array, buffer, pos + 1, end);
+            if (second != NO_FIELD) {
+                pos = fieldEnd(second);
+                if (pos < end && byteAt(array, buffer, pos) == '.') {
+                    long third = readSignedField(array, buffer, pos + 1, end);
+                    if (third != NO_FIELD) {
+                        return lenientEpochDay(fieldValue(third), fieldValue(second), fieldValue(first));
+                    }
+                }
+                return lenientEpochDay(fieldValue(second), fieldValue(first), 1);
+            }
+        }
+        return lenientEpochDay(fieldValue(first), 1, 1);
+    }
+
+    private static int parsePostgresEpochDay(byte[] array, ByteBuffer buffer, int start, int end) {
+        long year = readField(array, buffer, start, end);
+        if (year < 0) {
+            return INVALID;
+        }
+        int pos = fieldEnd(year);
+        if (pos >= end || byteAt(array, buffer, pos) != '-') {
+            return INVALID;
+        }
+        long month = readField(array, buffer, pos + 1, end);
+        if (month < 0) {
+            return INVALID;
+        }
+        pos = fieldEnd(month);
+        if (pos >= end || byteAt(array, buffer, pos) != '-') {
+            return INVALID;
+        }
+        long day = readField(array, buffer, pos + 1, end);
+        if (day < 0) {
+            return INVALID;
+        }
+        return lenientEpochDay(fieldValue(year), fieldValue(month), fieldValue(day));
+    }
+
+    private static long parseDateTime(byte[] array, ByteBuffer buffer, int start, int end) {
+        long day = readField(array, buffer, start, end);
+        if (day < 0 || fieldEnd(day) >= end || byteAt(array, buffer, fieldEnd(day)) != '.') {
+            return INVALID_SECOND;
+        }
+        long month = readField(array, buffer, fieldEnd(day) + 1, end);
+        if (month < 0 || fieldEnd(month) >= end || byteAt(array, buffer, fieldEnd(month)) != '.') {
+            return INVALID_SECOND;
+        }
+        long year = readField(array, buffer, fieldEnd(month) + 1, end);
+        if (year < 0) {
+            return INVALID_SECOND;
+        }
+        int epochDay = lenientEpochDay(fieldValue(year), fieldValue(month), fieldValue(day));
+        if (epochDay == INVALID) {
+            return INVALID_SECOND;
+        }
+        long seconds = 0;
+        long hour = readField(array, buffer, fieldEnd(year), end);
+        if (hour >= 0) {
+            int pos = fieldEnd(hour);
+            if (pos >= end || byteAt(array, buffer, pos) != ':') {
+                return INVALID_SECOND;
+            }
+            long minute = readField(array, buffer, pos + 1, end);
+            if (minute < 0) {
+                return INVALID_SECOND;
+            }
+            seconds = fieldValue(hour) * 3600L + fieldValue(minute) * 60L;
+            pos = fieldEnd(minute);
+            if (pos < end && byteAt(array, buffer, pos) == ':') {
+                long second = readField(array, buffer, pos + 1, end);
+                if (second >= 0) {
+                    seconds += fieldValue(second);
+                }
+            }
+        }
+        return (long) epochDay * SECONDS_PER_DAY + seconds;
+    }
+
+    /**
+     * Computes the epoch day of a date, rolling over months above 12 and
+     * days past the end of the month the same way a lenient Calendar does.
+     *
+     * @param year The year
+     * @param month The month, 1-based
+     * @param day The day of month, 1-based
+     * @return The epoch day, or {@link #INVALID} if the result is out of range
+     */
+    static int lenientEpochDay(long year, long month, long day) {
+        long y = year + Math.floorDiv(month - 1, 12);
+        int m = Math.floorMod(month - 1, 12) + 1;
+        if (y < MIN_YEAR || y > MAX_YEAR) {
+            return INVALID;
+        }
+        long epochDay = FSEpochDayUtils.toEpochDay(y, m, 1) + day - 1;
+        if (epochDay <= Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            return INVALID;
+        }
+        return (int) epochDay;
+    }
+
+    /**
+     * Reads a run of digits starting at pos, skipping leading spaces and tabs.
+     *
+     * @return The value in the upper 32 bits and the end index in the lower
+     *         32 bits, or {@link #NO_FIELD} if there are no digits or too many of them
+     */
+    private static long readField(CharSequence text, int pos, int end) {
+        while (pos < end && (text.charAt(pos) == ' ' || text.charAt(pos) == '\t')) {
+            pos++;
+        }
+        return readDigits(text, pos, end);
+    }
+
+    /**
+     * Reads a field like {@link #readField(CharSequence, int, int)}, also
+     * accepting a '-' right before the digits, as the lenient SimpleDateFormat
+     * the library used to parse with does.
+     */
+    private static long readSignedField(CharSequence text, int pos, int end) {
+        while (pos < end && (text.charAt(pos) == ' ' || text.charAt(pos) == '\t')) {
+            pos++;
+        }
+        if (pos < end && text.charAt(pos) == '-') {
+            return negate(readDigits(text, pos + 1, end));
+        }
+        return readDigits(text, pos, end);
+    }
+
+    private static long readDigits(CharSequence text, int pos, int end) {
+        int start = pos;
+        int value = 0;
+        while (pos < end) {
+            int digit = text.charAt(pos) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (pos - start == MAX_FIELD_DIGITS) {
+                return NO_FIELD;
+            }
+            value = value * 10 + digit;
+            pos++;
+        }
+        if (pos == start) {
+            return NO_FIELD;
+        }
+        return field(value, pos);
+    }
+
+    private static long readField(byte[] array, ByteBuffer buffer, int pos, int end) {
+        while (pos < end && (byteAt(array, buffer, pos) == ' ' || byteAt(array, buffer, pos) == '\t')) {
+            pos++;
+        }
+        return readDigits(array, buffer, pos, end);
+    }
+
+    private static long readSignedField(byte[] array, ByteBuffer buffer, int pos, int end) {
+        while (pos < end && (byteAt(array, buffer, pos) == ' ' || byteAt(array, buffer, pos) == '\t')) {
+            pos++;
+        }
+        if (pos < end && byteAt(array, buffer, pos) == '-') {
+            return negate(readDigits(array, buffer, pos + 1, end));
+        }
+        return readDigits(array, buffer, pos, end);
+    }
+
+    private static long readDigits(byte[] array, ByteBuffer buffer, int pos, int end) {
+        int start = pos;
+        int value = 0;
+        while (pos < end) {
+            int digit = byteAt(array, buffer, pos) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (pos - start == MAX_FIELD_DIGITS) {
+                return NO_FIELD;
+            }
+            value = value * 10 + digit;
+            pos++;
+        }
+        if (pos == start) {
+            return NO_FIELD;
+        }
+        return field(value, pos);
+    }
+
+    /**
+     * Reads an ASCII byte from the array if it is not null, or else from the
+     * buffer. Bytes outside ASCII map to 128 to 255 and never match a digit
+     * or a separator.
+     */
+    static int byteAt(byte[] array, ByteBuffer buffer, int index) {
+        return (array != null ? array[index] : buffer.get(index)) & 0xFF;
+    }
+
+    private static long field(int value, int end) {
+        return ((long) value << 32) | end;
+    }
+
+    private static long negate(long field) {
+        return field == NO_FIELD ? NO_FIELD : field(-fieldValue(field), fieldEnd(field));
+    }
+
+    private static int fieldValue(long field) {
+        return (int) (field >>> 32);
+    }
+
+    private static int fieldEnd(long field) {
+        return (int) field;
+    }
+}
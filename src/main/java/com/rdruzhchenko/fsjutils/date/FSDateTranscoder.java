@@ -0,0 +1,254 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Direct transcoder between the standard date format (dd.MM.yyyy) and the
+ * PostgreSQL format (yyyy-MM-dd).
+ *
+ * Between canonical dates the conversion is a fixed permutation of
+ * characters plus validation, so no parsing or formatting is involved and
+ * the output is written into a caller-supplied char array or StringBuilder.
+ * A streaming mode rewrites one column of a delimited text stream line by
+ * line without creating a String per row.
+ *
+ * This class is stateless and thread-safe.
+ */
+public class FSDateTranscoder {
+
+    private static final int DATE_LENGTH = FSEpochDayUtils.FORMATTED_LENGTH;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Converts the canonical dd.MM.yyyy date at a position to yyyy-MM-dd.
+     *
+     * @param src The source characters
+     * @param start The index of the first character of the date
+     * @param dst The destination array
+     * @param offset The index to start writing at
+     * @return The index after the last written character, or -1 if the
+     *         source does not hold a canonical date at that position
+     */
+    public static int toPostgres(CharSequence src, int start, char[] dst, int offset) {
+        if (start + DATE_LENGTH > src.length() || !FSDateComparators.isCanonicalDateAt(src, start)) {
+            return -1;
+        }
+        for (int i = 0; i < 4; i++) {
+            dst[offset + i] = src.charAt(start + 6 + i);
+        }
+        dst[offset + 4] = '-';
+        dst[offset + 5] = src.charAt(start + 3);
+        dst[offset + 6] = src.charAt(start + 4);
+        dst[offset + 7] = '-';
+        dst[offset + 8] = src.charAt(start);
+        dst[offset + 9] = src.charAt(start + 1);
+        return offset + DATE_LENGTH;
+    }
+
+    /**
+     * Converts a canonical dd.MM.yyyy date to yyyy-MM-dd and appends it.
+     *
+     * @param src The date in standard format
+     * @param dst The StringBuilder to append to
+     * @return true if the date was converted, false if it is not canonical
+     *         (nothing is appended in that case)
+     */
+    public static boolean toPostgres(CharSequence src, StringBuilder dst) {
+        if (src == null || src.length() != DATE_LENGTH || !FSDateComparators.isCanonicalDateAt(src, 0)) {
+            return false;
+        }
+        dst.append(src, 6, 10).append('-').append(src, 3, 5).append('-').append(src, 0, 2);
+        return true;
+    }
+
+    /**
+     * Converts the canonical yyyy-MM-dd date at a position to dd.MM.yyyy.
+     *
+     * @param src The source characters
+     * @param start The index of the first character of the date
+     * @param dst The destination array
+     * @param offset The index to start writing at
+     * @return The index after the last written character, or -1 if the
+     *         source does not hold a canonical date at that position
+     */
+    public static int fromPostgres(CharSequence src, int start, char[] dst, int offset) {
+        if (start + DATE_LENGTH > src.length() || !isCanonicalPostgresDateAt(src, start)) {
+            return -1;
+        }
+        dst[offset] = src.charAt(start + 8);
+        dst[offset + 1] = src.charAt(start + 9);
+        dst[offset + 2] = '.';
+        dst[offset + 3] = src.charAt(start + 5);
+        dst[offset + 4] = src.charAt(start + 6);
+        dst[offset + 5] = '.';
+        for (int i = 0; i < 4; i++) {
+            dst[offset + 6 + i] = src.charAt(start + i);
+        }
+        return offset + DATE_LENGTH;
+    }
+
+    /**
+     * Converts a canonical yyyy-MM-dd date to dd.MM.yyyy and appends it.
+     *
+     * @param src The date in PostgreSQL format
+     * @param dst The StringBuilder to append to
+     * @return true if the date was converted, false if it is not canonical
+     *         (nothing is appended in that case)
+     */
+    public static boolean fromPostgres(CharSequence src, StringBuilder dst) {
+        if (src == null || src.length() != DATE_LENGTH || !isCanonicalPostgresDateAt(src, 0)) {
+            return false;
+        }
+        dst.append(src, 8, 10).append('.').append(src, 5, 7).append('.').append(src, 0, 4);
+        return true;
+    }
+
+    /**
+     * Rewrites one column of a delimited stream from dd.MM.yyyy to yyyy-MM-dd.
+     * Canonical cells are converted by permuting characters; other cells are
+     * parsed with the rules of {@link FSDateUtils#dateFromString(String)}.
+     * Empty cells and cells that cannot be parsed (such as a header) are
+     * copied unchanged. Fields are split on the delimiter only; quoting is
+     * not supported.
+     *
+     * @param in The source stream
+     * @param out The destination stream; it is not flushed or closed
+     * @param delimiter The field delimiter
+     * @param columnIndex The 0-based index of the date column
+     * @return The number of non-empty cells that could not be converted
+     * @throws IOException if reading or writing fails
+     */
+    public static long columnToPostgres(Reader in, Writer out, char delimiter, int columnIndex) throws IOException {
+        return transcodeColumn(in, out, delimiter, columnIndex, true);
+    }
+
+    /**
+     * Rewrites one column of a delimited stream from yyyy-MM-dd to dd.MM.yyyy.
+     * Canonical cells are converted by permuting characters; other cells are
+     * parsed leniently. Empty cells and cells that cannot be parsed (such as
+     * a header) are copied unchanged. Fields are split on the delimiter only;
+     * quoting is not supported.
+     *
+     * @param in The source stream
+     * @param out The destination stream; it is not flushed or closed
+     * @param delimiter The field delimiter
+     * @param columnIndex The 0-based index of the date column
+     * @return The number of non-empty cells that could not be converted
+     * @throws IOException if reading or writing fails
+     */
+    public static long columnFromPostgres(Reader in, Writer out, char delimiter, int columnIndex) throws IOException {
+        return transcodeColumn(in, out, delimiter, columnIndex, false);
+    }
+
+    private static long transcodeColumn(Reader in, Writer out, char delimiter, int columnIndex,
+                                        boolean toPostgres) throws IOException {
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Column index cannot be negative");
+        }
+        char[] buffer = new char[BUFFER_SIZE];
+        var view = CharBuffer.wrap(buffer);
+        char[] converted = new char[DATE_LENGTH];
+        int length = 0;
+        long unconverted = 0;
+
+        int read;
+        while ((read = in.read(buffer, length, buffer.length - length)) >= 0) {
+            length += read;
+            int lineStart = 0;
+            for (int i = length - read; i < length; i++) {
+                if (buffer[i] == '\n') {
+                    unconverted += transcodeLine(view, buffer, lineStart, i + 1, out, delimiter, columnIndex, toPostgres, converted);
+                    lineStart = i + 1;
+                }
+            }
+            length -= lineStart;
+            System.arraycopy(buffer, lineStart, buffer, 0, length);
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                view = CharBuffer.wrap(buffer);
+            }
+        }
+        if (length > 0) {
+            unconverted += transcodeLine(view, buffer, 0, length, out, delimiter, columnIndex, toPostgres, converted);
+        }
+        return unconverted;
+    }
+
+    /**
+     * Writes one line, including its line terminator, with the date column rewritten.
+     *
+     * @return 1 if the date cell is non-empty and could not be converted, 0 otherwise
+     */
+    private static int transcodeLine(CharBuffer view, char[] buffer, int start, int end, Writer out,
+                                     char delimiter, int columnIndex, boolean toPostgres,
+                                     char[] converted) throws IOException {
+        int fieldStart = start;
+        for (int column = 0; column < columnIndex; column++) {
+            while (fieldStart < end && buffer[fieldStart] != delimiter) {
+                fieldStart++;
+            }
+            if (fieldStart == end) {
+                out.write(buffer, start, end - start);
+                return 0;
+            }
+            fieldStart++;
+        }
+        int fieldEnd = fieldStart;
+        while (fieldEnd < end && buffer[fieldEnd] != delimiter && buffer[fieldEnd] != '\n' && buffer[fieldEnd] != '\r') {
+            fieldEnd++;
+        }
+        if (fieldEnd == fieldStart) {
+            out.write(buffer, start, end - start);
+            return 0;
+        }
+
+        boolean done = fieldEnd - fieldStart == DATE_LENGTH && (toPostgres
+            ? toPostgres(view, fieldStart, converted, 0)
+            : fromPostgres(view, fieldStart, converted, 0)) >= 0;
+        if (!done) {
+            done = convertLeniently(view, fieldStart, fieldEnd, toPostgres, converted);
+        }
+        if (!done) {
+            out.write(buffer, start, end - start);
+            return 1;
+        }
+        out.write(buffer, start, fieldStart - start);
+        out.write(converted, 0, DATE_LENGTH);
+        out.write(buffer, fieldEnd, end - fieldEnd);
+        return 0;
+    }
+
+    private static boolean convertLeniently(CharSequence text, int start, int end, boolean toPostgres, char[] converted) {
+        int epochDay = toPostgres
+            ? FSDateParser.parseEpochDay(text, start, end)
+            : FSDateParser.parsePostgresEpochDay(text, start, end);
+        int year = epochDay == FSDateParser.INVALID ? -1 : FSEpochDayUtils.year(epochDay);
+        if (year < 0 || year > 9999) {
+            return false;
+        }
+        if (toPostgres) {
+            FSEpochDayUtils.formatPostgresTo(epochDay, converted, 0);
+        } else {
+            FSEpochDayUtils.formatTo(epochDay, converted, 0);
+        }
+        return true;
+    }
+
+    private static boolean isCanonicalPostgresDateAt(CharSequence s, int start) {
+        if (s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-') {
+            return false;
+        }
+        int century = FSDateComparators.twoDigits(s, start);
+        int yearOfCentury = FSDateComparators.twoDigits(s, start + 2);
+        int month = FSDateComparators.twoDigits(s, start + 5);
+        int day = FSDateComparators.twoDigits(s, start + 8);
+        if (day < 1 || month < 1 || month > 12 || century < 0 || yearOfCentury < 0) {
+            return false;
+        }
+        return day <= FSEpochDayUtils.lengthOfMonth(century * 100 + yearOfCentury, month);
+    }
+}
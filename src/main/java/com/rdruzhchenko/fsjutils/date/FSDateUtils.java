@@ -1,18 +1,20 @@
 package com.rdruzhchenko.fsjutils.date;
 
 import com.rdruzhchenko.fsjutils.exception.FSDateException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.TimeZone;
 
 /**
  * Utility class providing various date and time manipulation operations.
  * This class contains methods for date formatting, parsing, conversion between
  * different date formats, date calculations, and date/time comparisons.
+ * Conversions between Date and calendar dates use the JVM default time zone,
+ * including later changes to it, unless a zone is set with {@link #setZone(ZoneId)}.
  */
 public class FSDateUtils {
 
@@ -20,32 +22,230 @@ public class FSDateUtils {
     public static final String DATE_FORMAT_LONG = "dd.MM.yyyy";
 
     /** Month and year format (e.g., 12.2023) */
-    private static final String DATE_FORMAT_MIDDLE = "MM.yyyy";
+    static final String DATE_FORMAT_MIDDLE = "MM.yyyy";
 
     /** Year only format (e.g., 2023) */
-    private static final String DATE_FORMAT_SHORT = "yyyy";
+    static final String DATE_FORMAT_SHORT = "yyyy";
 
     /** Time format with hours, minutes, and seconds (e.g., 23:59:59) */
-    private static final String TIME_FORMAT = "HH:mm:ss";
+    static final String TIME_FORMAT = "HH:mm:ss";
 
     /** Date and time format with seconds (e.g., 31.12.2023 23:59:59) */
-    private static final String DATE_TIME_FORMAT = "dd.MM.yyyy HH:mm:ss";
+    static final String DATE_TIME_FORMAT = "dd.MM.yyyy HH:mm:ss";
 
     /** Date and time format without seconds (e.g., 31.12.2023 23:59) */
-    private static final String DATE_TIME_FORMAT_NO_SECONDS = "dd.MM.yyyy HH:mm";
+    static final String DATE_TIME_FORMAT_NO_SECONDS = "dd.MM.yyyy HH:mm";
 
     /** Descending date and time format without seconds (e.g., 2023.12.31 23:59) */
-    private static final String DATE_TIME_DESC_FORMAT_NO_SECONDS = "yyyy.MM.dd HH:mm";
+    static final String DATE_TIME_DESC_FORMAT_NO_SECONDS = "yyyy.MM.dd HH:mm";
 
     /** Descending date and time format with seconds (e.g., 2023.12.31 23:59:59) */
-    private static final String DATE_TIME_SECONDS_DESC_FORMAT = "yyyy.MM.dd HH:mm:ss";
+    static final String DATE_TIME_SECONDS_DESC_FORMAT = "yyyy.MM.dd HH:mm:ss";
 
     /** PostgreSQL date format (e.g., 2023-12-31) */
     public static final String DATE_FORMAT_POSTGRES = "yyyy-MM-dd";
 
+    private static volatile FSCachedClock cachedClock;
+    private static volatile FSZonedDateUtils zoned = FSZonedDateUtils.systemDefault();
+    // ID of the JVM default time zone that zoned was built for, or null while a zone is set explicitly
+    private static volatile String defaultZoneId = TimeZone.getDefault().getID();
+    private static volatile FSToday today = new FSToday(Clock.system(zoned.getZone()));
+    private static volatile FSDateParseCache parseCache;
+    private static final Object lock = new Object();
+
+    /**
+     * Binds the date conversions of this class to the given time zone, instead
+     * of the JVM default time zone that they follow by default. The zone rules
+     * and the start of each day are cached for the bound zone. If the
+     * cached-clock mode is enabled, its clock keeps its own zone until it is
+     * enabled again.
+     * This method is thread-safe.
+     *
+     * @param zone The time zone to use
+     * @throws IllegalArgumentException if zone is null
+     */
+    public static void setZone(ZoneId zone) {
+        var newZoned = new FSZonedDateUtils(zone);
+        var newToday = new FSToday(Clock.system(zone));
+        synchronized (lock) {
+            zoned = newZoned;
+            defaultZoneId = null;
+            if (cachedClock == null) {
+                today = newToday;
+            }
+        }
+    }
+
+    /**
+     * Makes the date conversions of this class follow the JVM default time
+     * zone again after {@link #setZone(ZoneId)}. This is the default: the
+     * default zone is checked on every call, and the cached zone rules are
+     * rebuilt when {@link java.util.TimeZone#setDefault} has changed it.
+     * This method is thread-safe.
+     */
+    public static void resetZone() {
+        var defaultZone = TimeZone.getDefault();
+        var newZoned = new FSZonedDateUtils(defaultZone.toZoneId());
+        var newToday = new FSToday(Clock.system(newZoned.getZone()));
+        synchronized (lock) {
+            zoned = newZoned;
+            defaultZoneId = defaultZone.getID();
+            if (cachedClock == null) {
+                today = newToday;
+            }
+        }
+    }
+
+    /**
+     * Gets the time zone the date conversions of this class use.
+     *
+     * @return The time zone in use
+     */
+    public static ZoneId getZone() {
+        return zoned().getZone();
+    }
+
+    /**
+     * Gets the zone-bound conversions used by this class.
+     *
+     * @return The conversions for the time zone in use
+     */
+    public static FSZonedDateUtils getZonedDateUtils() {
+        return zoned();
+    }
+
+    /**
+     * Gets the conversions for the zone in use, rebuilding them first if they
+     * follow the JVM default time zone and it has changed since they were built.
+     */
+    private static FSZonedDateUtils zoned() {
+        var followedId = defaultZoneId;
+        if (followedId != null && !followedId.equals(TimeZone.getDefault().getID())) {
+            followDefaultZone();
+        }
+        return zoned;
+    }
+
+    /**
+     * Gets the cached today, rebuilding it first like {@link #zoned()}. In the
+     * cached-clock mode it follows the zone of that clock instead.
+     */
+    private static FSToday today() {
+        zoned();
+        return today;
+    }
+
+    private static void followDefaultZone() {
+        synchronized (lock) {
+            var defaultZone = TimeZone.getDefault();
+            if (defaultZoneId != null && !defaultZoneId.equals(defaultZone.getID())) {
+                // Published before the ID, so that a reader seeing the new ID sees the new conversions
+                zoned = new FSZonedDateUtils(defaultZone.toZoneId());
+                if (cachedClock == null) {
+                    today = new FSToday(Clock.system(zoned.getZone()));
+                }
+                defaultZoneId = defaultZone.getID();
+            }
+        }
+    }
+
+    /**
+     * Enables the cached-clock mode backed by the system clock.
+     * In this mode the getCurrent* string methods re-render their values at
+     * most once per second (or once per minute for minute-resolution formats),
+     * and "today" is taken from the same clock.
+     * This method is thread-safe.
+     */
+    public static void enableCachedClock() {
+        enableCachedClock(Clock.system(zoned().getZone()));
+    }
+
+    /**
+     * Enables the cached-clock mode backed by the given clock.
+     * This method is thread-safe.
+     *
+     * @param clock The clock providing the current instant and time zone
+     * @throws IllegalArgumentException if clock is null
+     */
+    public static void enableCachedClock(Clock clock) {
+        var newClock = new FSCachedClock(clock);
+        var newToday = new FSToday(clock);
+        synchronized (lock) {
+            cachedClock = newClock;
+            today = newToday;
+        }
+    }
+
+    /**
+     * Disables the cached-clock mode, so that the getCurrent* string methods
+     * read and format the current time on every call again.
+     * This method is thread-safe.
+     */
+    public static void disableCachedClock() {
+        var newToday = new FSToday(Clock.system(zoned().getZone()));
+        synchronized (lock) {
+            cachedClock = null;
+            today = newToday;
+        }
+    }
+
+    /**
+     * Gets the cached clock in use.
+     *
+     * @return The cached clock, or null if the cached-clock mode is disabled
+     */
+    public static FSCachedClock getCachedClock() {
+        return cachedClock;
+    }
+
+    /**
+     * Enables a shared parse cache of the given capacity for
+     * {@link #dateFromString(String)}, {@link #isValidDate(String)} and the
+     * other methods that parse dd.MM.yyyy, MM.yyyy or yyyy strings.
+     * This method is thread-safe.
+     *
+     * @param capacity The maximum number of cached strings
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public static void enableParseCache(int capacity) {
+        enableParseCache(new FSDateParseCache(capacity));
+    }
+
+    /**
+     * Enables the given shared parse cache, see {@link #enableParseCache(int)}.
+     * This method is thread-safe.
+     *
+     * @param cache The cache to use
+     * @throws IllegalArgumentException if cache is null
+     */
+    public static void enableParseCache(FSDateParseCache cache) {
+        if (cache == null) {
+            throw new IllegalArgumentException("Parse cache cannot be null");
+        }
+        parseCache = cache;
+    }
+
+    /**
+     * Disables the shared parse cache, so that every date string is parsed again.
+     * This method is thread-safe.
+     */
+    public static void disableParseCache() {
+        parseCache = null;
+    }
+
+    /**
+     * Gets the shared parse cache in use, for example to read its counters.
+     *
+     * @return The parse cache, or null if it is disabled
+     */
+    public static FSDateParseCache getParseCache() {
+        return parseCache;
+    }
+
     /**
      * Converts a date string to a Date object.
      * Tries to parse the string using different formats (long, middle, short).
+     * Parsing is delegated to {@link FSDateParser}.
      *
      * @param dateString The date string to convert
      * @return The Date object, or null if the input is null or empty
@@ -54,19 +254,7 @@ public class FSDateUtils {
     public static Date dateFromString(String dateString) throws FSDateException {
         if (dateString == null || dateString.isEmpty())
             return null;
-        Date result = dateFrom(DATE_FORMAT_LONG, dateString);
-        if (result != null)
-            return result;
-
-        result = dateFrom(DATE_FORMAT_MIDDLE, dateString);
-        if (result != null)
-            return result;
-
-        result = dateFrom(DATE_FORMAT_SHORT, dateString);
-        if (result != null)
-            return result;
-
-        throw new FSDateException("Failed to parse date string: \"" + dateString.trim() + "\". Expected formats: " + DATE_FORMAT_LONG + ", " + DATE_FORMAT_MIDDLE + ", or " + DATE_FORMAT_SHORT);
+        return zoned().epochDayToDate(epochDayFromString(dateString));
     }
 
     /**
@@ -79,8 +267,7 @@ public class FSDateUtils {
         if (date == null) {
             return null;
         }
-        SimpleDateFormat formatter = new SimpleDateFormat(DATE_FORMAT_LONG);
-        return formatter.format(date);
+        return zoned().dateToString(date);
     }
 
     /**
@@ -89,17 +276,41 @@ public class FSDateUtils {
      * @return The current date as a string
      */
     public static String getCurrentDate() {
-        return getNowWithFormat(DATE_FORMAT_LONG);
+        var clock = cachedClock;
+        if (clock != null) {
+            return clock.currentDate();
+        }
+        return getNowWithFormat(FSDateFormatters.DATE_LONG);
     }
 
     /**
-     * Gets the current date as a Date object.
+     * Gets the current date as a Date object at the start of the day.
+     * The day is cached until the next midnight.
      *
      * @return The current date as a Date object
      */
     public static Date getCurrentDateAsDate() {
-        var dateString = getNowWithFormat(DATE_FORMAT_LONG);
-        return dateFromString(dateString);
+        return today().date();
+    }
+
+    /**
+     * Gets the current date as a LocalDate.
+     * The day is cached until the next midnight.
+     *
+     * @return The current date as a LocalDate
+     */
+    public static LocalDate getCurrentLocalDate() {
+        return today().localDate();
+    }
+
+    /**
+     * Gets the current date as an epoch day (see {@link FSEpochDayUtils}).
+     * The day is cached until the next midnight.
+     *
+     * @return The number of days since 01.01.1970
+     */
+    public static int getCurrentEpochDay() {
+        return today().epochDay();
     }
 
     /**
@@ -108,7 +319,11 @@ public class FSDateUtils {
      * @return The current time as a string
      */
     public static String getCurrentTime() {
-        return getNowWithFormat(TIME_FORMAT);
+        var clock = cachedClock;
+        if (clock != null) {
+            return clock.currentTime();
+        }
+        return getNowWithFormat(FSDateFormatters.TIME);
     }
 
     /**
@@ -117,7 +332,11 @@ public class FSDateUtils {
      * @return The current date and time as a string
      */
     public static String getCurrentDateTime() {
-        return getNowWithFormat(DATE_TIME_FORMAT_NO_SECONDS);
+        var clock = cachedClock;
+        if (clock != null) {
+            return clock.currentDateTime();
+        }
+        return getNowWithFormat(FSDateFormatters.DATE_TIME_NO_SECONDS);
     }
 
     /**
@@ -127,10 +346,7 @@ public class FSDateUtils {
      * @return The LocalDateTime object
      */
     public static LocalDateTime dateStringToDateTime(String dateString) {
-        var date = FSDateUtils.dateFromString(dateString);
-        return date.toInstant()
-            .atZone(ZoneId.systemDefault())
-            .toLocalDateTime();
+        return zoned().dateToLocalDateTime(FSDateUtils.dateFromString(dateString));
     }
 
     /**
@@ -139,7 +355,11 @@ public class FSDateUtils {
      * @return The current date and time in descending format
      */
     public static String getCurrentDateTimeDesc() {
-        return getNowWithFormat(DATE_TIME_DESC_FORMAT_NO_SECONDS);
+        var clock = cachedClock;
+        if (clock != null) {
+            return clock.currentDateTimeDesc();
+        }
+        return getNowWithFormat(FSDateFormatters.DATE_TIME_DESC_NO_SECONDS);
     }
 
     /**
@@ -148,7 +368,11 @@ public class FSDateUtils {
      * @return The current date and time with seconds in descending format
      */
     public static String getCurrentDateTimeSecondsDesc() {
-        return getNowWithFormat(DATE_TIME_SECONDS_DESC_FORMAT);
+        var clock = cachedClock;
+        if (clock != null) {
+            return clock.currentDateTimeSecondsDesc();
+        }
+        return getNowWithFormat(FSDateFormatters.DATE_TIME_SECONDS_DESC);
     }
 
     /**
@@ -157,7 +381,11 @@ public class FSDateUtils {
      * @return The current date and time with seconds
      */
     public static String getCurrentDateTimeSeconds() {
-        return getNowWithFormat(DATE_TIME_FORMAT);
+        var clock = cachedClock;
+        if (clock != null) {
+            return clock.currentDateTimeSeconds();
+        }
+        return getNowWithFormat(FSDateFormatters.DATE_TIME);
     }
 
     /**
@@ -167,8 +395,7 @@ public class FSDateUtils {
      * @return The formatted date and time string
      */
     public static String getStringDateTimeFromDate(Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat(DATE_TIME_FORMAT);
-        return sdf.format(date);
+        return formatDate(date, FSDateFormatters.DATE_TIME);
     }
 
     /**
@@ -178,9 +405,7 @@ public class FSDateUtils {
      * @return The LocalDate object
      */
     public static LocalDate dateToLocalDate(Date dateToConvert) {
-        return Instant.ofEpochMilli(dateToConvert.getTime())
-            .atZone(ZoneId.systemDefault())
-            .toLocalDate();
+        return zoned().dateToLocalDate(dateToConvert);
     }
 
     /**
@@ -190,27 +415,29 @@ public class FSDateUtils {
      * @return The Date object
      */
     public static Date localDateToDate(LocalDate dateToConvert) {
-        return Date.from(dateToConvert.atStartOfDay()
-            .atZone(ZoneId.systemDefault())
-            .toInstant());
+        return zoned().localDateToDate(dateToConvert);
     }
 
-    private static Date dateFrom(String format, String dateString) {
-        if (dateString == null)
-            return null;
-        SimpleDateFormat formatter = new SimpleDateFormat(format);
-        Date result = null;
-        try {
-            result = formatter.parse(dateString);
-        } catch (ParseException ignore) {
+    private static int epochDayFromString(String dateString) {
+        int epochDay = parseEpochDay(dateString);
+        if (epochDay == FSDateParser.INVALID) {
+            throw new FSDateException("Failed to parse date string: \"" + (dateString == null ? null : dateString.trim()) + "\". Expected formats: " + DATE_FORMAT_LONG + ", " + DATE_FORMAT_MIDDLE + ", or " + DATE_FORMAT_SHORT);
         }
-        return result;
+        return epochDay;
+    }
+
+    private static int parseEpochDay(String dateString) {
+        var cache = parseCache;
+        return cache != null ? cache.parseEpochDay(dateString) : FSDateParser.parseEpochDay(dateString);
+    }
+
+    private static String getNowWithFormat(DateTimeFormatter formatter) {
+        LocalDateTime now = LocalDateTime.now(zoned().getZone());
+        return formatter.format(now);
     }
 
-    private static String getNowWithFormat(String format) {
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern(format);
-        LocalDateTime now = LocalDateTime.now();
-        return dtf.format(now);
+    private static String formatDate(Date date, DateTimeFormatter formatter) {
+        return formatter.format(date.toInstant().atZone(zoned().getZone()));
     }
 
     /**
@@ -219,10 +446,11 @@ public class FSDateUtils {
      * @param dateString The date string to add days to
      * @param i The number of days to add (can be negative to subtract days)
      * @return A new date string with the days added
+     * @throws FSDateException if the date string cannot be parsed
      */
     public static String dateByAddDays(String dateString, int i) {
-        Date date = dateFromString(dateString);
-        return dateByAddDays(date, i);
+        int epochDay = epochDayFromString(dateString);
+        return FSEpochDayUtils.format(FSEpochDayUtils.plusDays(epochDay, i));
     }
 
     /**
@@ -245,12 +473,7 @@ public class FSDateUtils {
      * @return A new Date object with the days added
      */
     public static Date dateByAddDaysAsDate(Date date, int i) {
-        LocalDate localDate = date.toInstant()
-            .atZone(ZoneId.systemDefault())
-            .toLocalDate();
-        LocalDate newLocalDate = localDate.plusDays(i);
-        return Date.from(newLocalDate.atStartOfDay()
-            .atZone(ZoneId.systemDefault()).toInstant());
+        return zoned().dateByAddDaysAsDate(date, i);
     }
 
     /**
@@ -266,12 +489,7 @@ public class FSDateUtils {
         if (dateString.length() > 10) {
             return false;
         }
-        try {
-            Date date = dateFromString(dateString);
-            return date != null;
-        } catch (FSDateException e) {
-            return false;
-        }
+        return parseEpochDay(dateString) != FSDateParser.INVALID;
     }
 
     /**
@@ -285,13 +503,7 @@ public class FSDateUtils {
         if (dateBegin == null || dateEnd == null) {
             return -1;
         }
-        LocalDate date1 = dateBegin.toInstant()
-            .atZone(ZoneId.systemDefault())
-            .toLocalDate();
-        LocalDate date2 = dateEnd.toInstant()
-            .atZone(ZoneId.systemDefault())
-            .toLocalDate();
-        return (int) Duration.between(date1.atStartOfDay(), date2.atStartOfDay()).toDays();
+        return zoned().daysBetween(dateBegin, dateEnd);
     }
 
     /**
@@ -314,9 +526,7 @@ public class FSDateUtils {
      * @throws FSDateException if either date string cannot be parsed
      */
     public static boolean isDateLessThan(String date1, String date2) throws FSDateException {
-        var date1date = dateFromString(date1);
-        var date2date = dateFromString(date2);
-        return date1date.compareTo(date2date) < 0;
+        return FSDateComparators.compareDates(date1, date2) < 0;
     }
 
     /**
@@ -328,9 +538,7 @@ public class FSDateUtils {
      * @throws FSDateException if either date string cannot be parsed
      */
     public static boolean isDateLessOrEqualsThan(String date1, String date2) throws FSDateException {
-        var date1date = dateFromString(date1);
-        var date2date = dateFromString(date2);
-        return date1date.compareTo(date2date) <= 0;
+        return FSDateComparators.compareDates(date1, date2) <= 0;
     }
 
     /**
@@ -348,27 +556,14 @@ public class FSDateUtils {
 
     /**
      * Returns the Ukrainian month name in genitive case for a given date.
+     * See {@link FSMonthNames} for other languages and cases.
      *
      * @param dateCheckOut The date string in format dd.MM.yyyy
-     * @return The Ukrainian month name in genitive case
+     * @return The Ukrainian month name in genitive case, or "unknown" if the month is not from 01 to 12
      */
     public static String getMonthWordInGenitiveCase(String dateCheckOut) {
-        var month = dateCheckOut.substring(3, 5);
-        return switch (month) {
-            case "01" -> "січня";
-            case "02" -> "лютого";
-            case "03" -> "березня";
-            case "04" -> "квітня";
-            case "05" -> "травня";
-            case "06" -> "червня";
-            case "07" -> "липня";
-            case "08" -> "серпня";
-            case "09" -> "вересня";
-            case "10" -> "жовтня";
-            case "11" -> "листопада";
-            case "12" -> "грудня";
-            default -> "unknown";
-        };
+        var month = FSMonthNames.UKRAINIAN.genitiveOf(dateCheckOut);
+        return month != null ? month : "unknown";
     }
 
     /**
@@ -389,18 +584,11 @@ public class FSDateUtils {
      *
      * @param date The date string
      * @return The date string for the Monday of the week containing the given date
+     * @throws FSDateException if the date string cannot be parsed
      */
     public static String getWeekStart(String date) {
-
-        Date dateDate = FSDateUtils.dateFromString(date);
-
-        // Go backward to get Monday
-        LocalDate monday = dateToLocalDate(dateDate);
-        while (monday.getDayOfWeek() != DayOfWeek.MONDAY) {
-            monday = monday.minusDays(1);
-        }
-
-        return dateToString(localDateToDate(monday));
+        int epochDay = epochDayFromString(date);
+        return FSEpochDayUtils.format(FSEpochDayUtils.weekStart(epochDay));
     }
 
     /**
@@ -408,17 +596,11 @@ public class FSDateUtils {
      *
      * @param date The date string
      * @return The date string for the Sunday of the week containing the given date
+     * @throws FSDateException if the date string cannot be parsed
      */
     public static String getWeekEnd(String date) {
-        Date dateDate = FSDateUtils.dateFromString(date);
-
-        // Go forward to get Sunday
-        LocalDate sunday = dateToLocalDate(dateDate);
-        while (sunday.getDayOfWeek() != DayOfWeek.SUNDAY) {
-            sunday = sunday.plusDays(1);
-        }
-
-        return dateToString(localDateToDate(sunday));
+        int epochDay = epochDayFromString(date);
+        return FSEpochDayUtils.format(FSEpochDayUtils.weekEnd(epochDay));
     }
 
     /**
@@ -445,12 +627,16 @@ public class FSDateUtils {
      * @throws FSDateException if the time format is invalid
      */
     public static String plusMinutesToTime(String time, int minutesToAdd) {
+        if (minutesToAdd <= 0) {
+            return time;
+        }
+        int secondOfDay = FSTimeOfDay.parse(time);
+        if (secondOfDay != FSTimeOfDay.INVALID) {
+            return FSTimeOfDay.format(FSTimeOfDay.plusMinutes(secondOfDay, minutesToAdd));
+        }
+        // Fractional seconds and invalid input keep the LocalTime behaviour
         try {
-            if (minutesToAdd > 0) {
-                return LocalTime.parse(time).plusMinutes(minutesToAdd).toString();
-            } else {
-                return time;
-            }
+            return LocalTime.parse(time).plusMinutes(minutesToAdd).toString();
         } catch (DateTimeParseException e) {
             throw new FSDateException("Failed to parse time string: \"" + time.trim() + "\". Expected format: 'HH:mm:ss' or 'HH:mm'", e);
         }
@@ -465,6 +651,12 @@ public class FSDateUtils {
      * @throws FSDateException if either time string cannot be parsed
      */
     public static boolean isTimeLessThan(String time1, String time2) {
+        int seconds1 = FSTimeOfDay.parse(time1);
+        int seconds2 = FSTimeOfDay.parse(time2);
+        if (seconds1 != FSTimeOfDay.INVALID && seconds2 != FSTimeOfDay.INVALID) {
+            return seconds1 < seconds2;
+        }
+        // Fractional seconds and invalid input keep the LocalTime behaviour
         try {
             var time1Seconds = LocalTime.parse(time1).toSecondOfDay();
             var time2Seconds = LocalTime.parse(time2).toSecondOfDay();
@@ -499,16 +691,7 @@ public class FSDateUtils {
      * @throws FSDateException if either date-time string cannot be parsed
      */
     public static int compareDates(String dateStr1, String dateStr2) {
-        SimpleDateFormat sdf = new SimpleDateFormat(DATE_TIME_FORMAT);
-
-        try {
-            Date date1 = sdf.parse(dateStr1);
-            Date date2 = sdf.parse(dateStr2);
-
-            return date1.compareTo(date2);
-        } catch (ParseException e) {
-            throw new FSDateException("Invalid date format for comparison: \"" + dateStr1 + "\" or \"" + dateStr2 + "\". Expected format: " + DATE_TIME_FORMAT, e);
-        }
+        return FSDateComparators.compareDateTimes(dateStr1, dateStr2);
     }
 
     /**
@@ -518,37 +701,52 @@ public class FSDateUtils {
      * @return A formatted string representing the duration in days, hours, minutes, seconds, and milliseconds
      */
     public static String formatDuration(long nanos) {
-        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
-
-        long days = TimeUnit.MILLISECONDS.toDays(millis);
-        long hours = TimeUnit.MILLISECONDS.toHours(millis) - TimeUnit.DAYS.toHours(days);
-        long minutes = TimeUnit.MILLISECONDS.toMinutes(millis) - TimeUnit.HOURS.toMinutes(hours) - TimeUnit.DAYS.toMinutes(days);
-        long seconds = TimeUnit.MILLISECONDS.toSeconds(millis) - TimeUnit.MINUTES.toSeconds(minutes) - TimeUnit.HOURS.toSeconds(hours) - TimeUnit.DAYS.toSeconds(days);
-        long milliseconds = millis - TimeUnit.SECONDS.toMillis(seconds) - TimeUnit.MINUTES.toMillis(minutes) - TimeUnit.HOURS.toMillis(hours) - TimeUnit.DAYS.toMillis(days);
-
-        StringBuilder result = new StringBuilder();
+        return formatDuration(nanos, FSDurationLabels.UKRAINIAN);
+    }
 
-        if (days > 0) {
-            result.append(days).append(" дн. ");
-        }
-        if (hours > 0) {
-            result.append(hours).append(" г. ");
-        }
-        if (minutes > 0) {
-            result.append(minutes).append(" хв. ");
-        }
-        if (seconds > 0) {
-            result.append(seconds).append(" сек. ");
-        }
-        if (milliseconds > 0) {
-            result.append(milliseconds).append(" мс.");
-        }
+    /**
+     * Formats a duration in nanoseconds to a human-readable string using the given unit labels.
+     *
+     * @param nanos The duration in nanoseconds
+     * @param labels The unit labels to use
+     * @return A formatted string representing the duration in days, hours, minutes, seconds, and milliseconds
+     */
+    public static String formatDuration(long nanos, FSDurationLabels labels) {
+        var result = new StringBuilder(32);
+        formatDuration(nanos, result, labels);
+        return result.toString();
+    }
 
-        if (result.isEmpty()) {
-            result.append("0 мс.");
+    /**
+     * Formats a duration in nanoseconds and appends it to a StringBuilder.
+     * No intermediate strings are created.
+     *
+     * @param nanos The duration in nanoseconds
+     * @param out The StringBuilder to append to
+     * @param labels The unit labels to use
+     * @return The same StringBuilder, for chaining
+     */
+    public static StringBuilder formatDuration(long nanos, StringBuilder out, FSDurationLabels labels) {
+        try {
+            appendDuration(nanos, out, labels);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
         }
+        return out;
+    }
 
-        return result.toString().trim();
+    /**
+     * Formats a duration in nanoseconds and appends it to an Appendable,
+     * such as a Writer. No intermediate strings are created.
+     *
+     * @param nanos The duration in nanoseconds
+     * @param out The Appendable to append to
+     * @param labels The unit labels to use
+     * @throws IOException if appending fails
+     */
+    public static void formatDuration(long nanos, Appendable out, FSDurationLabels labels) throws IOException {
+        appendDuration(nanos, out, labels);
     }
 
     /**
@@ -563,6 +761,62 @@ public class FSDateUtils {
         return FSDateUtils.formatDuration(duration);
     }
 
+    /**
+     * Calculates the elapsed time from a start time in nanoseconds to the current time
+     * and appends it to a StringBuilder.
+     *
+     * @param startTime The start time in nanoseconds (from System.nanoTime())
+     * @param out The StringBuilder to append to
+     * @param labels The unit labels to use
+     * @return The same StringBuilder, for chaining
+     */
+    public static StringBuilder calcElapsedTime(long startTime, StringBuilder out, FSDurationLabels labels) {
+        return formatDuration(System.nanoTime() - startTime, out, labels);
+    }
+
+    private static void appendDuration(long nanos, Appendable out, FSDurationLabels labels) throws IOException {
+        long millis = nanos / 1_000_000;
+        long milliseconds = millis % 1000;
+        long totalSeconds = millis / 1000;
+        long seconds = totalSeconds % 60;
+        long totalMinutes = totalSeconds / 60;
+        long minutes = totalMinutes % 60;
+        long totalHours = totalMinutes / 60;
+        long hours = totalHours % 24;
+        long days = totalHours / 24;
+
+        boolean empty = appendUnit(out, days, labels.days(), true);
+        empty = appendUnit(out, hours, labels.hours(), empty);
+        empty = appendUnit(out, minutes, labels.minutes(), empty);
+        empty = appendUnit(out, seconds, labels.seconds(), empty);
+        empty = appendUnit(out, milliseconds, labels.millis(), empty);
+        if (empty) {
+            out.append('0').append(' ').append(labels.millis());
+        }
+    }
+
+    private static boolean appendUnit(Appendable out, long value, String label, boolean empty) throws IOException {
+        if (value <= 0) {
+            return empty;
+        }
+        if (!empty) {
+            out.append(' ');
+        }
+        if (out instanceof StringBuilder sb) {
+            sb.append(value);
+        } else {
+            long divisor = 1;
+            while (divisor <= value / 10) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                out.append((char) ('0' + value / divisor % 10));
+            }
+        }
+        out.append(' ').append(label);
+        return false;
+    }
+
     /**
      * Converts a date string from standard format to PostgreSQL format.
      *
@@ -571,9 +825,11 @@ public class FSDateUtils {
      * @throws FSDateException if the date string cannot be parsed
      */
     public static String stringToPostgres(String s) {
-        var date = dateFromString(s);
-        SimpleDateFormat formatter = new SimpleDateFormat(DATE_FORMAT_POSTGRES);
-        return formatter.format(date);
+        var sb = new StringBuilder(DATE_FORMAT_POSTGRES.length());
+        if (FSDateTranscoder.toPostgres(s, sb)) {
+            return sb.toString();
+        }
+        return FSEpochDayUtils.formatPostgres(epochDayFromString(s));
     }
 
     /**
@@ -584,14 +840,15 @@ public class FSDateUtils {
      * @throws FSDateException if the date string cannot be parsed
      */
     public static String postgresToString(String s) {
-        SimpleDateFormat formatter = new SimpleDateFormat(DATE_FORMAT_POSTGRES);
-        try {
-            var date = formatter.parse(s);
-            formatter = new SimpleDateFormat(DATE_FORMAT_LONG);
-            return formatter.format(date);
-        } catch (ParseException e) {
-            throw new FSDateException("Failed to parse PostgreSQL date format: \"" + s + "\". Expected format: " + DATE_FORMAT_POSTGRES, e);
+        var sb = new StringBuilder(DATE_FORMAT_LONG.length());
+        if (FSDateTranscoder.fromPostgres(s, sb)) {
+            return sb.toString();
+        }
+        int epochDay = FSDateParser.parsePostgresEpochDay(s);
+        if (epochDay == FSDateParser.INVALID) {
+            throw new FSDateException("Failed to parse PostgreSQL date format: \"" + s + "\". Expected format: " + DATE_FORMAT_POSTGRES);
         }
+        return FSEpochDayUtils.format(epochDay);
     }
 
     /**
@@ -603,13 +860,7 @@ public class FSDateUtils {
      * @throws FSDateException if the date string cannot be parsed
      */
     public static String plusMonth(String s, int months) {
-        var date = FSDateUtils.dateFromString(s);
-        Instant instant = date.toInstant();
-        Instant oneMonthAgoInstant = instant
-            .atZone(ZoneId.systemDefault())
-            .plusMonths(months)
-            .toInstant();
-        date = Date.from(oneMonthAgoInstant);
-        return FSDateUtils.dateToString(date);
+        int epochDay = epochDayFromString(s);
+        return FSEpochDayUtils.format(FSEpochDayUtils.plusMonths(epochDay, months));
     }
 }
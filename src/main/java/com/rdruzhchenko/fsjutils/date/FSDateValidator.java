@@ -0,0 +1,193 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Bulk validator for columns of dd.MM.yyyy dates stored as ASCII bytes,
+ * for example fixed-width records or CSV fields in a read or memory-mapped
+ * buffer.
+ *
+ * Each date is read as two overlapping little-endian {@code long} words
+ * (bytes 0-7 and 2-9). The digit and separator positions are checked for
+ * all eight bytes of a word at once with SWAR (SIMD within a register)
+ * arithmetic, the day, month and year are extracted with a multiply-and-shift
+ * instead of a per-character loop, and the day is finally checked against
+ * the month length from {@link FSCalendarTable}.
+ *
+ * Unlike {@link FSDateUtils#isValidDate(String)}, which accepts everything
+ * {@link FSDateUtils#dateFromString(String)} can parse (MM.yyyy, yyyy,
+ * single-digit fields, days that roll over into the next month), this
+ * validator is strict: exactly ten bytes, two-digit day and month, a
+ * four-digit year and a day that exists in the calendar, as
+ * {@link java.time.LocalDate} would require.
+ *
+ * This class is stateless and thread-safe.
+ */
+public class FSDateValidator {
+
+    /** Length of a dd.MM.yyyy date. */
+    public static final int DATE_LENGTH = 10;
+
+    private static final VarHandle ARRAY_LONG =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Bytes 0-7 are "dd.MM.yy"; byte i is bits 8i to 8i+7
+    private static final long LOW_DIGITS = 0xFFFF_00FF_FF00_FFFFL;
+    private static final long LOW_DOTS = 0x0000_2E00_002E_0000L;
+    // Bytes 2-9 are ".MM.yyyy"
+    private static final long HIGH_DIGITS = 0xFFFF_FFFF_00FF_FF00L;
+    private static final long HIGH_DOTS = 0x0000_0000_2E00_002EL;
+
+    private static final long ZEROS = 0x3030_3030_3030_3030L;
+    private static final long HIGH_NIBBLES = 0xF0F0_F0F0_F0F0_F0F0L;
+    private static final long SIXES = 0x0606_0606_0606_0606L;
+
+    /**
+     * Checks a single date.
+     *
+     * @param data The bytes to check
+     * @param offset The index of the first byte of the date
+     * @return true if the ten bytes at offset are a valid dd.MM.yyyy date
+     * @throws IndexOutOfBoundsException if the ten bytes are out of bounds
+     */
+    public static boolean isValid(byte[] data, int offset) {
+        Objects.checkFromIndexSize(offset, DATE_LENGTH, data.length);
+        return isValid((long) ARRAY_LONG.get(data, offset), (long) ARRAY_LONG.get(data, offset + 2));
+    }
+
+    /**
+     * Checks a single date at an absolute index of a buffer. The buffer
+     * position, limit and byte order are not used or changed.
+     *
+     * @param buffer The buffer to check
+     * @param offset The index of the first byte of the date
+     * @return true if the ten bytes at offset are a valid dd.MM.yyyy date
+     * @throws IndexOutOfBoundsException if the ten bytes are out of bounds
+     */
+    public static boolean isValid(ByteBuffer buffer, int offset) {
+        Objects.checkFromIndexSize(offset, DATE_LENGTH, buffer.capacity());
+        return isValid((long) BUFFER_LONG.get(buffer, offset), (long) BUFFER_LONG.get(buffer, offset + 2));
+    }
+
+    /**
+     * Validates a column of fixed-width records.
+     *
+     * @param data The records
+     * @param offset The index of the date in the first record
+     * @param stride The distance between the dates of consecutive records
+     * @param rows The number of records
+     * @return The indexes of the records whose date is not valid
+     * @throws IllegalArgumentException if stride is less than {@link #DATE_LENGTH} or rows is negative
+     * @throws IndexOutOfBoundsException if the last date is out of bounds
+     */
+    public static BitSet validate(byte[] data, int offset, int stride, int rows) {
+        checkLayout(offset, stride, rows, data.length);
+        var invalid = new BitSet(rows);
+        for (int row = 0, pos = offset; row < rows; row++, pos += stride) {
+            if (!isValid((long) ARRAY_LONG.get(data, pos), (long) ARRAY_LONG.get(data, pos + 2))) {
+                invalid.set(row);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Validates a column of fixed-width records at absolute indexes of a
+     * buffer. The buffer position, limit and byte order are not used or changed.
+     *
+     * @param buffer The records
+     * @param offset The index of the date in the first record
+     * @param stride The distance between the dates of consecutive records
+     * @param rows The number of records
+     * @return The indexes of the records whose date is not valid
+     * @throws IllegalArgumentException if stride is less than {@link #DATE_LENGTH} or rows is negative
+     * @throws IndexOutOfBoundsException if the last date is out of bounds
+     */
+    public static BitSet validate(ByteBuffer buffer, int offset, int stride, int rows) {
+        checkLayout(offset, stride, rows, buffer.capacity());
+        var invalid = new BitSet(rows);
+        for (int row = 0, pos = offset; row < rows; row++, pos += stride) {
+            if (!isValid((long) BUFFER_LONG.get(buffer, pos), (long) BUFFER_LONG.get(buffer, pos + 2))) {
+                invalid.set(row);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Validates a column of variable-length fields, such as CSV cells whose
+     * bounds were found by a tokenizer. A field is only valid if it is
+     * exactly {@link #DATE_LENGTH} bytes long.
+     *
+     * @param data The bytes holding the fields
+     * @param offsets The index of the first byte of each field
+     * @param lengths The length of each field
+     * @return The indexes of the fields that are not valid dates
+     * @throws IllegalArgumentException if offsets and lengths differ in length
+     * @throws IndexOutOfBoundsException if a field of length {@link #DATE_LENGTH} is out of bounds
+     */
+    public static BitSet validate(byte[] data, int[] offsets, int[] lengths) {
+        if (offsets.length != lengths.length) {
+            throw new IllegalArgumentException("Offsets and lengths must have the same size");
+        }
+        var invalid = new BitSet(offsets.length);
+        for (int row = 0; row < offsets.length; row++) {
+            if (lengths[row] != DATE_LENGTH || !isValid(data, offsets[row])) {
+                invalid.set(row);
+            }
+        }
+        return invalid;
+    }
+
+    private static void checkLayout(int offset, int stride, int rows, int capacity) {
+        if (stride < DATE_LENGTH) {
+            throw new IllegalArgumentException("Stride cannot be less than " + DATE_LENGTH);
+        }
+        if (rows < 0) {
+            throw new IllegalArgumentException("Rows cannot be negative");
+        }
+        if (rows > 0) {
+            Objects.checkFromIndexSize(offset, DATE_LENGTH, capacity);
+            Objects.checkFromIndexSize(offset + (long) (rows - 1) * stride, DATE_LENGTH, capacity);
+        }
+    }
+
+    private static boolean isValid(long low, long high) {
+        if (!matches(low, LOW_DIGITS, LOW_DOTS) || !matches(high, HIGH_DIGITS, HIGH_DOTS)) {
+            return false;
+        }
+        // With every digit byte 0-9 and dot bytes 0, v * 10 + (v >>> 8) holds byte i * 10 + byte i+1 in byte i
+        long lowPairs = pairs((low & LOW_DIGITS) - (ZEROS & LOW_DIGITS));
+        long highPairs = pairs((high & HIGH_DIGITS) - (ZEROS & HIGH_DIGITS));
+        int day = (int) (lowPairs & 0xFF);
+        int month = (int) (lowPairs >>> 24 & 0xFF);
+        int year = (int) (lowPairs >>> 48 & 0xFF) * 100 + (int) (highPairs >>> 48 & 0xFF);
+        if (month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= FSCalendarTable.lengthOfMonth(year, month);
+    }
+
+    // Digit bytes must be 0x30-0x39 and dot bytes must be '.'
+    private static boolean matches(long word, long digits, long dots) {
+        long nonDigits = ~digits;
+        if ((word & nonDigits) != dots) {
+            return false;
+        }
+        long digitBytes = word & digits;
+        // 0x30-0x39 keep the high nibble 3 after adding 6; 0x3A-0x3F move to 4
+        return (digitBytes & HIGH_NIBBLES) == (ZEROS & digits)
+            && ((digitBytes + (SIXES & digits)) & HIGH_NIBBLES) == (ZEROS & digits);
+    }
+
+    private static long pairs(long values) {
+        return values * 10 + (values >>> 8);
+    }
+}
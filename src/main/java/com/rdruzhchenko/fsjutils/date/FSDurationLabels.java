@@ -0,0 +1,32 @@
+package com.rdruzhchenko.fsjutils.date;
+
+/**
+ * Immutable table of unit labels used when formatting durations.
+ * Build one instance per locale and reuse it; formatting with a label table
+ * does not create any strings.
+ *
+ * @param days The label for days
+ * @param hours The label for hours
+ * @param minutes The label for minutes
+ * @param seconds The label for seconds
+ * @param millis The label for milliseconds
+ */
+public record FSDurationLabels(String days, String hours, String minutes, String seconds, String millis) {
+
+    /** Ukrainian labels (e.g., 1 дн. 2 г. 3 хв. 4 сек. 5 мс.) */
+    public static final FSDurationLabels UKRAINIAN = new FSDurationLabels("дн.", "г.", "хв.", "сек.", "мс.");
+
+    /** English labels (e.g., 1 d 2 h 3 min 4 s 5 ms) */
+    public static final FSDurationLabels ENGLISH = new FSDurationLabels("d", "h", "min", "s", "ms");
+
+    /**
+     * Creates a label table.
+     *
+     * @throws IllegalArgumentException if any label is null
+     */
+    public FSDurationLabels {
+        if (days == null || hours == null || minutes == null || seconds == null || millis == null) {
+            throw new IllegalArgumentException("Duration labels cannot be null");
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.time.LocalDate;
+
+/**
+ * Primitive date API where a date is a plain {@code int} epoch day
+ * (the number of days since 01.01.1970).
+ *
+ * This class mirrors the string-based operations of {@link FSDateUtils}
+ * (parsing, formatting, day and month arithmetic, week boundaries) without
+ * going through {@link java.util.Date}, {@link java.time.ZoneId} or
+ * {@link LocalDate}, so that it can be used in hot loops without allocation.
+ * Dates are always in the proleptic Gregorian calendar and carry no time zone.
+ *
+ * This class is stateless and thread-safe.
+ */
+public class FSEpochDayUtils {
+
+    /** Marker returned when a string cannot be parsed, same as {@link FSDateParser#INVALID}. */
+    public static final int INVALID = FSDateParser.INVALID;
+
+    /** Length of a date formatted as dd.MM.yyyy or yyyy-MM-dd. */
+    public static final int FORMATTED_LENGTH = 10;
+
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int DAYS_PER_CYCLE = 146_097;
+
+    /**
+     * Returns the epoch day for a date.
+     *
+     * @param year The year
+     * @param month The month, from 1 to 12
+     * @param day The day of month, from 1 to the length of the month
+     * @return The epoch day
+     * @throws FSDateException if the date is not a valid calendar date
+     */
+    public static int of(int year, int month, int day) {
+        if (!isValid(year, month, day)) {
+            throw new FSDateException("Invalid date: year " + year + ", month " + month + ", day " + day);
+        }
+        return (int) toEpochDay(year, month, day);
+    }
+
+    /**
+     * Checks if the year, month and day form a valid calendar date.
+     *
+     * @param year The year
+     * @param month The month
+     * @param day The day of month
+     * @return true if the date exists, false otherwise
+     */
+    public static boolean isValid(int year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month)
+            && year > -5_000_000 && year < 5_000_000;
+    }
+
+    /**
+     * Checks if a year is a leap year.
+     *
+     * @param year The year
+     * @return true if the year is a leap year, false otherwise
+     */
+    public static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Returns the number of days in a month.
+     *
+     * @param year The year
+     * @param month The month, from 1 to 12
+     * @return The number of days in the month
+     */
+    public static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Parses a date string in one of the formats dd.MM.yyyy, MM.yyyy or yyyy,
+     * with the same rules as {@link FSDateUtils#dateFromString(String)}.
+     *
+     * @param text The date string
+     * @return The epoch day, or {@link #INVALID} if the string cannot be parsed
+     */
+    public static int parse(String text) {
+        return FSDateParser.parseEpochDay(text);
+    }
+
+    /**
+     * Parses a date string in PostgreSQL format (yyyy-MM-dd).
+     *
+     * @param text The date string
+     * @return The epoch day, or {@link #INVALID} if the string cannot be parsed
+     */
+    public static int parsePostgres(String text) {
+        return FSDateParser.parsePostgresEpochDay(text);
+    }
+
+    /**
+     * Formats an epoch day in the standard format (dd.MM.yyyy).
+     *
+     * @param epochDay The epoch day
+     * @return The formatted date string
+     */
+    public static String format(int epochDay) {
+        return formatTo(epochDay, new StringBuilder(FORMATTED_LENGTH)).toString();
+    }
+
+    /**
+     * Appends an epoch day in the standard format (dd.MM.yyyy) to a StringBuilder.
+     *
+     * @param epochDay The epoch day
+     * @param sb The StringBuilder to append to
+     * @return The same StringBuilder
+     */
+    public static StringBuilder formatTo(int epochDay, StringBuilder sb) {
+        long ymd = decode(epochDay);
+        int year = decodedYear(ymd);
+        if (year < 0) {
+            return sb.append(FSDateFormatters.DATE_LONG.format(LocalDate.ofEpochDay(epochDay)));
+        }
+        appendTwoDigits(sb, decodedDay(ymd));
+        sb.append('.');
+        appendTwoDigits(sb, decodedMonth(ymd));
+        sb.append('.');
+        return appendYear(sb, year);
+    }
+
+    /**
+     * Writes an epoch day in the standard format (dd.MM.yyyy) into a char array.
+     * Exactly {@link #FORMATTED_LENGTH} characters are written.
+     *
+     * @param epochDay The epoch day
+     * @param dst The destination array
+     * @param offset The index to start writing at
+     * @return The index after the last written character
+     * @throws FSDateException if the year is outside the range 0 to 9999
+     */
+    public static int formatTo(int epochDay, char[] dst, int offset) {
+        long ymd = decode(epochDay);
+        int year = requireFourDigitYear(decodedYear(ymd));
+        writeTwoDigits(dst, offset, decodedDay(ymd));
+        dst[offset + 2] = '.';
+        writeTwoDigits(dst, offset + 3, decodedMonth(ymd));
+        dst[offset + 5] = '.';
+        writeTwoDigits(dst, offset + 6, year / 100);
+        writeTwoDigits(dst, offset + 8, year % 100);
+        return offset + FORMATTED_LENGTH;
+    }
+
+    /**
+     * Writes an epoch day in standard format (dd.MM.yyyy) into a byte array
+     * as ASCII. Exactly {@link #FORMATTED_LENGTH} bytes are written.
+     *
+     * @param epochDay The epoch day
+     * @param dst The destination array
+     * @param offset The index to start writing at
+     * @return The index after the last written byte
+     * @throws FSDateException if the year is outside the range 0 to 9999
+     */
+    public static int formatTo(int epochDay, byte[] dst, int offset) {
+        long ymd = decode(epochDay);
+        int year = requireFourDigitYear(decodedYear(ymd));
+        writeTwoDigits(dst, offset, decodedDay(ymd));
+        dst[offset + 2] = '.';
+        writeTwoDigits(dst, offset + 3, decodedMonth(ymd));
+        dst[offset + 5] = '.';
+        writeTwoDigits(dst, offset + 6, year / 100);
+        writeTwoDigits(dst, offset + 8, year % 100);
+        return offset + FORMATTED_LENGTH;
+    }
+
+    /**
+     * Formats minutes since 01.01.1970 00:00 as a date and time without
+     * seconds (dd.MM.yyyy HH:mm).
+     *
+     * @param epochMinute The number of minutes since the epoch
+     * @return The formatted date and time string
+     */
+    public static String formatEpochMinute(long epochMinute) {
+        int minuteOfDay = (int) Math.floorMod(epochMinute, 1440L);
+        var sb = new StringBuilder(FORMATTED_LENGTH + 6);
+        formatTo(Math.toIntExact(Math.floorDiv(epochMinute, 1440L)), sb).append(' ');
+        appendTwoDigits(sb, minuteOfDay / 60);
+        sb.append(':');
+        appendTwoDigits(sb, minuteOfDay % 60);
+        return sb.toString();
+    }
+
+    /**
+     * Formats an epoch day in PostgreSQL format (yyyy-MM-dd).
+     *
+     * @param epochDay The epoch day
+     * @return The formatted date string
+     */
+    public static String formatPostgres(int epochDay) {
+        return formatPostgresTo(epochDay, new StringBuilder(FORMATTED_LENGTH)).toString();
+    }
+
+    /**
+     * Appends an epoch day in PostgreSQL format (yyyy-MM-dd) to a StringBuilder.
+     *
+     * @param epochDay The epoch day
+     * @param sb The StringBuilder to append to
+     * @return The same StringBuilder
+     */
+    public static StringBuilder formatPostgresTo(int epochDay, StringBuilder sb) {
+        long ymd = decode(epochDay);
+        int year = decodedYear(ymd);
+        if (year < 0) {
+            return sb.append(FSDateFormatters.DATE_POSTGRES.format(LocalDate.ofEpochDay(epochDay)));
+        }
+        appendYear(sb, year);
+        sb.append('-');
+        appendTwoDigits(sb, decodedMonth(ymd));
+        sb.append('-');
+        appendTwoDigits(sb, decodedDay(ymd));
+        return sb;
+    }
+
+    /**
+     * Writes an epoch day in PostgreSQL format (yyyy-MM-dd) into a char array.
+     * Exactly {@link #FORMATTED_LENGTH} characters are written.
+     *
+     * @param epochDay The epoch day
+     * @param dst The destination array
+     * @param offset The index to start writing at
+     * @return The index after the last written character
+     * @throws FSDateException if the year is outside the range 0 to 9999
+     */
+    public static int formatPostgresTo(int epochDay, char[] dst, int offset) {
+        long ymd = decode(epochDay);
+        int year = requireFourDigitYear(decodedYear(ymd));
+        writeTwoDigits(dst, offset, year / 100);
+        writeTwoDigits(dst, offset + 2, year % 100);
+        dst[offset + 4] = '-';
+        writeTwoDigits(dst, offset + 5, decodedMonth(ymd));
+        dst[offset + 7] = '-';
+        writeTwoDigits(dst, offset + 8, decodedDay(ymd));
+        return offset + FORMATTED_LENGTH;
+    }
+
+    /**
+     * Writes an epoch day in PostgreSQL format (yyyy-MM-dd) into a byte array
+     * as ASCII. Exactly {@link #FORMATTED_LENGTH} bytes are written.
+     *
+     * @param epochDay The epoch day
+     * @param dst The destination array
+     * @param offset The index to start writing at
+     * @return The index after the last written byte
+     * @throws FSDateException if the year is outside the range 0 to 9999
+     */
+    public static int formatPostgresTo(int epochDay, byte[] dst, int offset) {
+        long ymd = decode(epochDay);
+        int year = requireFourDigitYear(decodedYear(ymd));
+        writeTwoDigits(dst, offset, year / 100);
+        writeTwoDigits(dst, offset + 2, year % 100);
+        dst[offset + 4] = '-';
+        writeTwoDigits(dst, offset + 5, decodedMonth(ymd));
+        dst[offset + 7] = '-';
+        writeTwoDigits(dst, offset + 8, decodedDay(ymd));
+        return offset + FORMATTED_LENGTH;
+    }
+
+    /**
+     * Adds a number of days to an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @param days The number of days to add (can be negative)
+     * @return The resulting epoch day
+     */
+    public static int plusDays(int epochDay, int days) {
+        return epochDay + days;
+    }
+
+    /**
+     * Adds a number of months to an epoch day. If the day of month does not
+     * exist in the resulting month, the last day of that month is used,
+     * the same way {@link LocalDate#plusMonths(long)} does.
+     *
+     * @param epochDay The epoch day
+     * @param months The number of months to add (can be negative)
+     * @return The resulting epoch day
+     */
+    public static int plusMonths(int epochDay, int months) {
+        if (months == 0) {
+            return epochDay;
+        }
+        long ymd = decode(epochDay);
+        long monthCount = decodedYear(ymd) * 12L + (decodedMonth(ymd) - 1) + months;
+        long year = Math.floorDiv(monthCount, 12);
+        int month = Math.floorMod(monthCount, 12) + 1;
+        int day = Math.min(decodedDay(ymd), lengthOfMonth(year, month));
+        return (int) toEpochDay(year, month, day);
+    }
+
+    /**
+     * Calculates the number of days between two epoch days.
+     *
+     * @param begin The start epoch day
+     * @param end The end epoch day
+     * @return The number of days from begin to end (negative if end is earlier)
+     */
+    public static int daysBetween(int begin, int end) {
+        return end - begin;
+    }
+
+    /**
+     * Returns the ISO day of week of an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @return The day of week, from 1 (Monday) to 7 (Sunday)
+     */
+    public static int dayOfWeek(int epochDay) {
+        // 01.01.1970 was a Thursday
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    /**
+     * Returns the Monday of the week containing an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @return The epoch day of the Monday
+     */
+    public static int weekStart(int epochDay) {
+        return epochDay - (dayOfWeek(epochDay) - 1);
+    }
+
+    /**
+     * Returns the Sunday of the week containing an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @return The epoch day of the Sunday
+     */
+    public static int weekEnd(int epochDay) {
+        return weekStart(epochDay) + 6;
+    }
+
+    /**
+     * Returns the index of the ISO week (Monday to Sunday) containing an epoch day.
+     * Week 0 is the week starting on Monday 29.12.1969; consecutive weeks have
+     * consecutive indexes, which makes the index suitable as a group-by key.
+     *
+     * @param epochDay The epoch day
+     * @return The week index
+     */
+    public static int weekIndex(int epochDay) {
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+
+    /**
+     * Returns the Monday of a week given its index (see {@link #weekIndex(int)}).
+     *
+     * @param weekIndex The week index
+     * @return The epoch day of the Monday
+     */
+    public static int weekIndexStart(int weekIndex) {
+        return weekIndex * 7 - 3;
+    }
+
+    /**
+     * Returns the ISO week-based year and week number of an epoch day,
+     * encoded as {@code year * 100 + week} (e.g., 202352 for 31.12.2023).
+     *
+     * @param epochDay The epoch day
+     * @return The encoded ISO year and week
+     */
+    public static int isoYearWeek(int epochDay) {
+        int thursday = weekStart(epochDay) + 3;
+        int year = year(thursday);
+        int week = (thursday - (int) toEpochDay(year, 1, 1)) / 7 + 1;
+        return year * 100 + week;
+    }
+
+    /**
+     * Returns the year of an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @return The year
+     */
+    public static int year(int epochDay) {
+        return decodedYear(decode(epochDay));
+    }
+
+    /**
+     * Returns the month of an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @return The month, from 1 to 12
+     */
+    public static int month(int epochDay) {
+        return decodedMonth(decode(epochDay));
+    }
+
+    /**
+     * Returns the day of month of an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @return The day of month, from 1 to 31
+     */
+    public static int dayOfMonth(int epochDay) {
+        return decodedDay(decode(epochDay));
+    }
+
+    /**
+     * Converts an epoch day to a LocalDate.
+     *
+     * @param epochDay The epoch day
+     * @return The LocalDate
+     */
+    public static LocalDate toLocalDate(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Converts a LocalDate to an epoch day.
+     *
+     * @param date The LocalDate
+     * @return The epoch day
+     */
+    public static int fromLocalDate(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * Computes the epoch day of a valid proleptic Gregorian date.
+     * Years covered by {@link FSCalendarTable} are read from the table;
+     * other years use the algorithm of {@link LocalDate#toEpochDay()}
+     * without the allocation.
+     */
+    static long toEpochDay(long year, int month, int day) {
+        if (FSCalendarTable.covers(year)) {
+            return FSCalendarTable.toEpochDay((int) year, month, day);
+        }
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Decodes an epoch day into year, month and day packed into a long.
+     * Epoch days covered by {@link FSCalendarTable} are looked up in the
+     * table; others use the algorithm of {@link LocalDate#ofEpochDay(long)}
+     * without the allocation.
+     */
+    static long decode(int epochDay) {
+        if (FSCalendarTable.coversEpochDay(epochDay)) {
+            return FSCalendarTable.decode(epochDay);
+        }
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return (yearEst << 9) | ((long) month << 5) | day;
+    }
+
+    static int decodedYear(long ymd) {
+        return (int) (ymd >> 9);
+    }
+
+    static int decodedMonth(long ymd) {
+        return (int) (ymd >> 5) & 0xF;
+    }
+
+    static int decodedDay(long ymd) {
+        return (int) ymd & 0x1F;
+    }
+
+    private static int requireFourDigitYear(int year) {
+        if (year < 0 || year > 9999) {
+            throw new FSDateException("Year " + year + " cannot be formatted with four digits");
+        }
+        return year;
+    }
+
+    // Years past 9999 are written in full and without the sign DateTimeFormatter adds, like SimpleDateFormat
+    private static StringBuilder appendYear(StringBuilder sb, int year) {
+        if (year > 9999) {
+            return sb.append(year);
+        }
+        appendTwoDigits(sb, year / 100);
+        appendTwoDigits(sb, year % 100);
+        return sb;
+    }
+
+    private static void appendTwoDigits(StringBuilder sb, int value) {
+        sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void writeTwoDigits(char[] dst, int offset, int value) {
+        dst[offset] = (char) ('0' + value / 10);
+        dst[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void writeTwoDigits(byte[] dst, int offset, int value) {
+        dst[offset] = (byte) ('0' + value / 10);
+        dst[offset + 1] = (byte) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,70 @@
+package com.rdruzhchenko.fsjutils.date;
+
+/**
+ * Half-open interval [start, end) of minutes since 01.01.1970 00:00 with an
+ * attached value, as stored in an {@link FSIntervalTree}.
+ *
+ * @param start The first minute, inclusive
+ * @param end The last minute, exclusive
+ * @param value The attached value
+ * @param <V> The value type
+ */
+public record FSInterval<V>(long start, long end, V value) {
+
+    /**
+     * Creates an interval.
+     *
+     * @throws IllegalArgumentException if end is not after start
+     */
+    public FSInterval {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval end must be after its start");
+        }
+    }
+
+    /**
+     * Creates an interval from two date-time strings, see {@link FSDateParser#parseEpochMinute(String)}.
+     *
+     * @param start The start date-time, inclusive
+     * @param end The end date-time, exclusive
+     * @param value The attached value
+     * @param <V> The value type
+     * @return The interval
+     * @throws com.rdruzhchenko.fsjutils.exception.FSDateException if a string cannot be parsed
+     * @throws IllegalArgumentException if end is not after start
+     */
+    public static <V> FSInterval<V> of(String start, String end, V value) {
+        return new FSInterval<>(FSIntervalTree.parse(start), FSIntervalTree.parse(end), value);
+    }
+
+    /**
+     * Checks if this interval shares at least one minute with [from, to).
+     *
+     * @param from The first minute, inclusive
+     * @param to The last minute, exclusive
+     * @return true if the intervals overlap
+     */
+    public boolean overlaps(long from, long to) {
+        return start < to && from < end;
+    }
+
+    /**
+     * Checks if this interval contains a minute.
+     *
+     * @param minute The minute
+     * @return true if start &lt;= minute &lt; end
+     */
+    public boolean contains(long minute) {
+        return start <= minute && minute < end;
+    }
+
+    /**
+     * Formats this interval as "dd.MM.yyyy HH:mm - dd.MM.yyyy HH:mm: value".
+     *
+     * @return The formatted interval
+     */
+    @Override
+    public String toString() {
+        return FSEpochDayUtils.formatEpochMinute(start) + " - " + FSEpochDayUtils.formatEpochMinute(end) + ": " + value;
+    }
+}
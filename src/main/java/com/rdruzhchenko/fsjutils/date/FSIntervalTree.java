@@ -0,0 +1,392 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Interval tree over half-open minute intervals, for example appointment
+ * slots given as dd.MM.yyyy HH:mm strings.
+ *
+ * The tree is an AVL tree ordered by interval start, where every node also
+ * keeps the largest end in its subtree. Insert and delete take O(log n).
+ * Overlap and stabbing queries skip subtrees whose largest end is not after
+ * the query start and stop at the first interval starting at or after the
+ * query end, so they usually visit little more than a root path and the k
+ * results; this is not a guaranteed O(log n + k), and long intervals that
+ * end after the query start but do not overlap it are still visited.
+ * Bulk loading sorts the intervals once and builds a balanced tree in
+ * O(n log n). Intervals with equal bounds may be stored more than once.
+ *
+ * This class is not thread-safe; guard shared instances externally.
+ *
+ * @param <V> The type of the values attached to intervals
+ */
+public class FSIntervalTree<V> {
+
+    private static final Comparator<FSInterval<?>> ORDER =
+        Comparator.<FSInterval<?>>comparingLong(FSInterval::start).thenComparingLong(FSInterval::end);
+
+    private Node<V> root;
+    private int size;
+    private long nextId;
+
+    /**
+     * Creates an empty tree.
+     */
+    public FSIntervalTree() {
+    }
+
+    /**
+     * Builds a balanced tree from intervals in any order.
+     *
+     * @param intervals The intervals to load
+     * @param <V> The value type
+     * @return The tree
+     */
+    public static <V> FSIntervalTree<V> of(Collection<FSInterval<V>> intervals) {
+        var sorted = new ArrayList<>(intervals);
+        sorted.sort(ORDER);
+        var tree = new FSIntervalTree<V>();
+        tree.root = tree.build(sorted, 0, sorted.size());
+        tree.size = sorted.size();
+        tree.nextId = sorted.size();
+        return tree;
+    }
+
+    /**
+     * Gets the number of intervals in the tree.
+     *
+     * @return The number of intervals
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the tree is empty.
+     *
+     * @return true if there are no intervals
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Inserts an interval.
+     *
+     * @param interval The interval to insert
+     */
+    public void insert(FSInterval<V> interval) {
+        root = insert(root, new Node<>(interval, nextId++));
+        size++;
+    }
+
+    /**
+     * Inserts an interval of minutes.
+     *
+     * @param start The first minute, inclusive
+     * @param end The last minute, exclusive
+     * @param value The attached value
+     * @throws IllegalArgumentException if end is not after start
+     */
+    public void insert(long start, long end, V value) {
+        insert(new FSInterval<>(start, end, value));
+    }
+
+    /**
+     * Inserts an interval given as date-time strings (dd.MM.yyyy HH:mm).
+     *
+     * @param start The start date-time, inclusive
+     * @param end The end date-time, exclusive
+     * @param value The attached value
+     * @throws FSDateException if a string cannot be parsed
+     * @throws IllegalArgumentException if end is not after start
+     */
+    public void insert(String start, String end, V value) {
+        insert(FSInterval.of(start, end, value));
+    }
+
+    /**
+     * Deletes one interval with the given bounds and an equal value.
+     *
+     * @param interval The interval to delete
+     * @return true if an interval was deleted
+     */
+    public boolean delete(FSInterval<V> interval) {
+        var match = find(root, interval);
+        if (match == null) {
+            return false;
+        }
+        root = delete(root, match);
+        size--;
+        return true;
+    }
+
+    /**
+     * Deletes one interval of minutes with an equal value.
+     *
+     * @param start The first minute, inclusive
+     * @param end The last minute, exclusive
+     * @param value The attached value
+     * @return true if an interval was deleted
+     */
+    public boolean delete(long start, long end, V value) {
+        return delete(new FSInterval<>(start, end, value));
+    }
+
+    /**
+     * Deletes one interval given as date-time strings with an equal value.
+     *
+     * @param start The start date-time, inclusive
+     * @param end The end date-time, exclusive
+     * @param value The attached value
+     * @return true if an interval was deleted
+     * @throws FSDateException if a string cannot be parsed
+     */
+    public boolean delete(String start, String end, V value) {
+        return delete(FSInterval.of(start, end, value));
+    }
+
+    /**
+     * Visits the intervals that overlap [from, to), in order of their start.
+     *
+     * @param from The first minute, inclusive
+     * @param to The last minute, exclusive
+     * @param action The action to run for each interval
+     */
+    public void forEachOverlapping(long from, long to, Consumer<FSInterval<V>> action) {
+        collect(root, from, to, action);
+    }
+
+    /**
+     * Finds the intervals that overlap [from, to), in order of their start.
+     *
+     * @param from The first minute, inclusive
+     * @param to The last minute, exclusive
+     * @return The overlapping intervals
+     */
+    public List<FSInterval<V>> overlapping(long from, long to) {
+        var result = new ArrayList<FSInterval<V>>();
+        collect(root, from, to, result::add);
+        return result;
+    }
+
+    /**
+     * Finds the intervals that overlap the range between two date-time strings.
+     *
+     * @param from The start date-time, inclusive
+     * @param to The end date-time, exclusive
+     * @return The overlapping intervals
+     * @throws FSDateException if a string cannot be parsed
+     */
+    public List<FSInterval<V>> overlapping(String from, String to) {
+        return overlapping(parse(from), parse(to));
+    }
+
+    /**
+     * Checks if any interval overlaps [from, to). Takes O(log n).
+     *
+     * @param from The first minute, inclusive
+     * @param to The last minute, exclusive
+     * @return true if at least one interval overlaps the range
+     */
+    public boolean overlaps(long from, long to) {
+        var node = root;
+        while (node != null) {
+            if (node.interval.overlaps(from, to)) {
+                return true;
+            }
+            // If the left subtree reaches past from but holds no overlap, the
+            // interval with that maximum end starts at or after to, and so
+            // does every interval on the right.
+            node = node.left != null && node.left.maxEnd > from ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Finds the intervals that contain a minute, in order of their start.
+     *
+     * @param minute The minute
+     * @return The intervals containing the minute
+     */
+    public List<FSInterval<V>> stabbing(long minute) {
+        return overlapping(minute, minute + 1);
+    }
+
+    /**
+     * Finds the intervals that contain the minute of a date-time string.
+     *
+     * @param dateTime The date-time (dd.MM.yyyy HH:mm)
+     * @return The intervals containing that minute
+     * @throws FSDateException if the string cannot be parsed
+     */
+    public List<FSInterval<V>> stabbing(String dateTime) {
+        return stabbing(parse(dateTime));
+    }
+
+    static long parse(String dateTime) {
+        long minute = FSDateParser.parseEpochMinute(dateTime);
+        if (minute == FSDateParser.INVALID_MINUTE) {
+            throw new FSDateException("Failed to parse date-time string: \"" + dateTime + "\". Expected format: "
+                + FSDateUtils.DATE_TIME_FORMAT_NO_SECONDS);
+        }
+        return minute;
+    }
+
+    private void collect(Node<V> node, long from, long to, Consumer<FSInterval<V>> action) {
+        while (node != null && node.maxEnd > from) {
+            collect(node.left, from, to, action);
+            if (node.interval.start() >= to) {
+                return;
+            }
+            if (node.interval.end() > from) {
+                action.accept(node.interval);
+            }
+            node = node.right;
+        }
+    }
+
+    private Node<V> find(Node<V> node, FSInterval<V> interval) {
+        while (node != null) {
+            int cmp = ORDER.compare(interval, node.interval);
+            if (cmp == 0) {
+                // Equal bounds may sit on both sides after rotations
+                if (Objects.equals(node.interval.value(), interval.value())) {
+                    return node;
+                }
+                var left = find(node.left, interval);
+                return left != null ? left : find(node.right, interval);
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private Node<V> build(List<FSInterval<V>> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        // Ids break ties between equal bounds, so they must follow the sorted order
+        var node = new Node<>(sorted.get(mid), mid);
+        node.left = build(sorted, from, mid);
+        node.right = build(sorted, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    private Node<V> insert(Node<V> node, Node<V> added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private Node<V> delete(Node<V> node, Node<V> removed) {
+        int cmp = compare(removed, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, removed);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, removed);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            var successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = delete(node.right, successor);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private static <V> int compare(Node<V> a, Node<V> b) {
+        int cmp = ORDER.compare(a.interval, b.interval);
+        return cmp != 0 ? cmp : Long.compare(a.id, b.id);
+    }
+
+    private static <V> Node<V> balance(Node<V> node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <V> Node<V> rotateRight(Node<V> node) {
+        var pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <V> Node<V> rotateLeft(Node<V> node) {
+        var pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <V> void update(Node<V> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.interval.end();
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<V> {
+        final FSInterval<V> interval;
+        // Tie-breaker that keeps intervals with equal bounds distinct
+        final long id;
+        Node<V> left;
+        Node<V> right;
+        int height = 1;
+        long maxEnd;
+
+        Node(FSInterval<V> interval, long id) {
+            this.interval = interval;
+            this.id = id;
+            this.maxEnd = interval.end();
+        }
+    }
+}
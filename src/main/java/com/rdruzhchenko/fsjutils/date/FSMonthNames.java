@@ -0,0 +1,202 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.util.Locale;
+
+/**
+ * Immutable table of month and weekday names for one language, with the
+ * nominative and genitive cases of month names.
+ *
+ * Names are looked up by index in fixed arrays: the month comes from an
+ * epoch day or from the fixed character positions of a dd.MM.yyyy string,
+ * so no substrings are created. Document dates ("31 грудня 2023 р.",
+ * "31 December 2023", "31 grudnia 2023 r.") are appended straight into the
+ * caller's buffer.
+ *
+ * This class is immutable and thread-safe.
+ */
+public final class FSMonthNames {
+
+    /** Ukrainian names, document dates like "31 грудня 2023 р." */
+    public static final FSMonthNames UKRAINIAN = new FSMonthNames("uk",
+        new String[] {"січень", "лютий", "березень", "квітень", "травень", "червень",
+            "липень", "серпень", "вересень", "жовтень", "листопад", "грудень"},
+        new String[] {"січня", "лютого", "березня", "квітня", "травня", "червня",
+            "липня", "серпня", "вересня", "жовтня", "листопада", "грудня"},
+        new String[] {"понеділок", "вівторок", "середа", "четвер", "п'ятниця", "субота", "неділя"},
+        " р.");
+
+    /** English names, document dates like "31 December 2023" */
+    public static final FSMonthNames ENGLISH = new FSMonthNames("en",
+        new String[] {"January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"},
+        null,
+        new String[] {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"},
+        "");
+
+    /** Polish names, document dates like "31 grudnia 2023 r." */
+    public static final FSMonthNames POLISH = new FSMonthNames("pl",
+        new String[] {"styczeń", "luty", "marzec", "kwiecień", "maj", "czerwiec",
+            "lipiec", "sierpień", "wrzesień", "październik", "listopad", "grudzień"},
+        new String[] {"stycznia", "lutego", "marca", "kwietnia", "maja", "czerwca",
+            "lipca", "sierpnia", "września", "października", "listopada", "grudnia"},
+        new String[] {"poniedziałek", "wtorek", "środa", "czwartek", "piątek", "sobota", "niedziela"},
+        " r.");
+
+    private final String language;
+    private final String[] nominative;
+    private final String[] genitive;
+    private final String[] weekdays;
+    private final String yearSuffix;
+
+    // English has no genitive forms, so a null genitive array reuses the nominative one
+    private FSMonthNames(String language, String[] nominative, String[] genitive, String[] weekdays, String yearSuffix) {
+        this.language = language;
+        this.nominative = nominative;
+        this.genitive = genitive != null ? genitive : nominative;
+        this.weekdays = weekdays;
+        this.yearSuffix = yearSuffix;
+    }
+
+    /**
+     * Gets the names for the language of a locale.
+     *
+     * @param locale The locale
+     * @return The names for its language
+     * @throws IllegalArgumentException if the language is not supported
+     */
+    public static FSMonthNames of(Locale locale) {
+        return switch (locale.getLanguage()) {
+            case "uk" -> UKRAINIAN;
+            case "en" -> ENGLISH;
+            case "pl" -> POLISH;
+            default -> throw new IllegalArgumentException("Month names are not available for locale " + locale);
+        };
+    }
+
+    /**
+     * Gets the language of these names.
+     *
+     * @return The ISO 639 language code
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Gets the name of a month in nominative case (e.g., "грудень").
+     *
+     * @param month The month, from 1 to 12
+     * @return The month name
+     * @throws IllegalArgumentException if the month is not from 1 to 12
+     */
+    public String nominative(int month) {
+        return nominative[monthIndex(month)];
+    }
+
+    /**
+     * Gets the name of a month in genitive case (e.g., "грудня").
+     *
+     * @param month The month, from 1 to 12
+     * @return The month name
+     * @throws IllegalArgumentException if the month is not from 1 to 12
+     */
+    public String genitive(int month) {
+        return genitive[monthIndex(month)];
+    }
+
+    /**
+     * Gets the genitive month name of a date string, reading the month from
+     * characters 3 and 4 of dd.MM.yyyy.
+     *
+     * @param date The date string in format dd.MM.yyyy
+     * @return The month name, or null if those characters are not a month from 01 to 12
+     * @throws IndexOutOfBoundsException if the string is shorter than 5 characters
+     */
+    public String genitiveOf(CharSequence date) {
+        int month = FSDateComparators.twoDigits(date, 3);
+        return month >= 1 && month <= 12 ? genitive[month - 1] : null;
+    }
+
+    /**
+     * Gets the name of a day of week.
+     *
+     * @param dayOfWeek The ISO day of week, from 1 (Monday) to 7 (Sunday)
+     * @return The weekday name
+     * @throws IllegalArgumentException if the day of week is not from 1 to 7
+     */
+    public String weekday(int dayOfWeek) {
+        if (dayOfWeek < 1 || dayOfWeek > 7) {
+            throw new IllegalArgumentException("Day of week must be from 1 to 7: " + dayOfWeek);
+        }
+        return weekdays[dayOfWeek - 1];
+    }
+
+    /**
+     * Gets the weekday name of an epoch day.
+     *
+     * @param epochDay The epoch day
+     * @return The weekday name
+     */
+    public String weekdayOf(int epochDay) {
+        return weekdays[FSEpochDayUtils.dayOfWeek(epochDay) - 1];
+    }
+
+    /**
+     * Formats an epoch day as a document date (e.g., "31 грудня 2023 р.").
+     *
+     * @param epochDay The epoch day
+     * @return The formatted date
+     */
+    public String formatDocumentDate(int epochDay) {
+        return formatDocumentDate(epochDay, new StringBuilder(24)).toString();
+    }
+
+    /**
+     * Appends an epoch day as a document date (e.g., "31 грудня 2023 р.").
+     * The day is written without a leading zero.
+     *
+     * @param epochDay The epoch day
+     * @param sb The StringBuilder to append to
+     * @return The same StringBuilder
+     */
+    public StringBuilder formatDocumentDate(int epochDay, StringBuilder sb) {
+        long ymd = FSEpochDayUtils.decode(epochDay);
+        return appendDocumentDate(sb, FSEpochDayUtils.decodedDay(ymd), FSEpochDayUtils.decodedMonth(ymd),
+            FSEpochDayUtils.decodedYear(ymd));
+    }
+
+    /**
+     * Appends a dd.MM.yyyy date string as a document date (e.g., "31 грудня 2023 р."),
+     * reading the fields from their fixed positions.
+     *
+     * @param date The date string in format dd.MM.yyyy
+     * @param sb The StringBuilder to append to
+     * @return The same StringBuilder
+     * @throws FSDateException if the string is not a valid dd.MM.yyyy date
+     */
+    public StringBuilder formatDocumentDate(CharSequence date, StringBuilder sb) {
+        if (date == null || date.length() != FSEpochDayUtils.FORMATTED_LENGTH || !FSDateComparators.isCanonicalDateAt(date, 0)) {
+            throw new FSDateException("Failed to parse date string: \"" + date + "\". Expected format: "
+                + FSDateUtils.DATE_FORMAT_LONG);
+        }
+        int year = FSDateComparators.twoDigits(date, 6) * 100 + FSDateComparators.twoDigits(date, 8);
+        return appendDocumentDate(sb, FSDateComparators.twoDigits(date, 0), FSDateComparators.twoDigits(date, 3), year);
+    }
+
+    private StringBuilder appendDocumentDate(StringBuilder sb, int day, int month, int year) {
+        return sb.append(day).append(' ').append(genitive[month - 1]).append(' ').append(year).append(yearSuffix);
+    }
+
+    private static int monthIndex(int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be from 1 to 12: " + month);
+        }
+        return month - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "FSMonthNames[" + language + "]";
+    }
+}
@@ -0,0 +1,425 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Day-level occupancy index for many resources, such as rooms.
+ *
+ * Each resource owns a bitset with one bit per day of a fixed window of
+ * epoch days; a set bit means the resource is occupied on that day. Range
+ * checks and free-window searches work on whole 64-day words, and a per-day
+ * counter of occupied resources answers "how many resources are free on a
+ * day" without scanning the resources.
+ *
+ * Ranges are half-open: [from, to) covers the nights of a booking, so a
+ * check-out day can be booked again. Date strings are parsed with the rules
+ * of {@link FSDateUtils#dateFromString(String)}.
+ *
+ * This class is thread-safe. Writers are serialized by a {@link StampedLock};
+ * readers use optimistic reads and only take the read lock when a write
+ * interfered.
+ *
+ * @param <K> The resource key type
+ */
+public class FSOccupancyIndex<K> {
+
+    private final int firstDay;
+    private final int dayCount;
+    private final int wordCount;
+    private final Map<K, long[]> resources = new ConcurrentHashMap<>();
+    private final int[] occupiedCounts;
+    private final StampedLock lock = new StampedLock();
+    private volatile int resourceCount;
+
+    /**
+     * Creates an index covering dayCount days starting at firstDay.
+     *
+     * @param firstDay The first epoch day of the window
+     * @param dayCount The number of days in the window
+     * @throws IllegalArgumentException if dayCount is not positive
+     */
+    public FSOccupancyIndex(int firstDay, int dayCount) {
+        if (dayCount <= 0) {
+            throw new IllegalArgumentException("Day count must be positive");
+        }
+        this.firstDay = firstDay;
+        this.dayCount = dayCount;
+        this.wordCount = (dayCount + 63) >>> 6;
+        this.occupiedCounts = new int[dayCount];
+    }
+
+    /**
+     * Creates an index covering the days from one date string (inclusive) to another (exclusive).
+     *
+     * @param from The first date of the window
+     * @param to The date after the last date of the window
+     * @throws FSDateException if a date cannot be parsed
+     * @throws IllegalArgumentException if the window is empty
+     */
+    public FSOccupancyIndex(String from, String to) {
+        this(parse(from), parse(to) - parse(from));
+    }
+
+    /**
+     * Gets the first epoch day of the window.
+     *
+     * @return The first day
+     */
+    public int getFirstDay() {
+        return firstDay;
+    }
+
+    /**
+     * Gets the number of days in the window.
+     *
+     * @return The number of days
+     */
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /**
+     * Adds a resource that is free on every day. Adding an existing resource has no effect.
+     *
+     * @param resource The resource key
+     * @return true if the resource was added
+     */
+    public boolean addResource(K resource) {
+        long stamp = lock.writeLock();
+        try {
+            if (resources.putIfAbsent(resource, new long[wordCount]) != null) {
+                return false;
+            }
+            resourceCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes a resource and all its occupied days.
+     *
+     * @param resource The resource key
+     * @return true if the resource was removed
+     */
+    public boolean removeResource(K resource) {
+        long stamp = lock.writeLock();
+        try {
+            var bits = resources.remove(resource);
+            if (bits == null) {
+                return false;
+            }
+            updateCounts(bits, 0, dayCount, -1);
+            resourceCount--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Gets the resources in the index.
+     *
+     * @return A read-only view of the resource keys
+     */
+    public Set<K> getResources() {
+        return Collections.unmodifiableSet(resources.keySet());
+    }
+
+    /**
+     * Books a resource for [from, to) if it is free on all those days.
+     *
+     * @param resource The resource key
+     * @param from The first epoch day, inclusive
+     * @param to The last epoch day, exclusive
+     * @return true if the days were booked, false if any of them was already occupied
+     * @throws IllegalArgumentException if the resource is unknown or to is before from
+     * @throws FSDateException if the range is outside the window
+     */
+    public boolean book(K resource, int from, int to) {
+        long stamp = lock.writeLock();
+        try {
+            var bits = bits(resource);
+            int start = offset(from, to);
+            int end = start + (to - from);
+            if (nextSetBit(bits, start, end) < end) {
+                return false;
+            }
+            setRange(bits, start, end, true);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Books a resource for the days from one date string (inclusive) to another (exclusive).
+     *
+     * @param resource The resource key
+     * @param from The first date
+     * @param to The date after the last date
+     * @return true if the days were booked, false if any of them was already occupied
+     * @throws IllegalArgumentException if the resource is unknown or to is before from
+     * @throws FSDateException if a date cannot be parsed or is outside the window
+     */
+    public boolean book(K resource, String from, String to) {
+        return book(resource, parse(from), parse(to));
+    }
+
+    /**
+     * Marks [from, to) as free for a resource, whether or not it was occupied.
+     *
+     * @param resource The resource key
+     * @param from The first epoch day, inclusive
+     * @param to The last epoch day, exclusive
+     * @throws IllegalArgumentException if the resource is unknown or to is before from
+     * @throws FSDateException if the range is outside the window
+     */
+    public void release(K resource, int from, int to) {
+        long stamp = lock.writeLock();
+        try {
+            int start = offset(from, to);
+            setRange(bits(resource), start, start + (to - from), false);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Marks the days from one date string (inclusive) to another (exclusive) as free.
+     *
+     * @param resource The resource key
+     * @param from The first date
+     * @param to The date after the last date
+     * @throws IllegalArgumentException if the resource is unknown or to is before from
+     * @throws FSDateException if a date cannot be parsed or is outside the window
+     */
+    public void release(K resource, String from, String to) {
+        release(resource, parse(from), parse(to));
+    }
+
+    /**
+     * Checks if a resource is free on every day of [from, to).
+     *
+     * @param resource The resource key
+     * @param from The first epoch day, inclusive
+     * @param to The last epoch day, exclusive
+     * @return true if no day in the range is occupied
+     * @throws IllegalArgumentException if the resource is unknown or to is before from
+     * @throws FSDateException if the range is outside the window
+     */
+    public boolean isFree(K resource, int from, int to) {
+        var bits = bits(resource);
+        int start = offset(from, to);
+        int end = start + (to - from);
+        long stamp = lock.tryOptimisticRead();
+        boolean free = nextSetBit(bits, start, end) >= end;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                free = nextSetBit(bits, start, end) >= end;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Checks if a resource is free from one date string (inclusive) to another (exclusive).
+     *
+     * @param resource The resource key
+     * @param from The first date
+     * @param to The date after the last date
+     * @return true if no day in the range is occupied
+     * @throws IllegalArgumentException if the resource is unknown or to is before from
+     * @throws FSDateException if a date cannot be parsed or is outside the window
+     */
+    public boolean isFree(K resource, String from, String to) {
+        return isFree(resource, parse(from), parse(to));
+    }
+
+    /**
+     * Finds the first run of length consecutive free days of a resource that
+     * starts on or after a day and ends within the window.
+     *
+     * @param resource The resource key
+     * @param from The earliest epoch day the run may start on
+     * @param length The number of consecutive free days required
+     * @return The first epoch day of the run, or {@link FSEpochDayUtils#INVALID} if there is none
+     * @throws IllegalArgumentException if the resource is unknown or length is not positive
+     * @throws FSDateException if from is outside the window
+     */
+    public int firstFreeWindow(K resource, int from, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Window length must be positive");
+        }
+        var bits = bits(resource);
+        int start = offset(from, from);
+        long stamp = lock.tryOptimisticRead();
+        int found = findFreeRun(bits, start, length);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = findFreeRun(bits, start, length);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found < 0 ? FSEpochDayUtils.INVALID : firstDay + found;
+    }
+
+    /**
+     * Finds the first run of length consecutive free days starting on or after a date string.
+     *
+     * @param resource The resource key
+     * @param from The earliest date the run may start on
+     * @param length The number of consecutive free days required
+     * @return The first date of the run in standard format (dd.MM.yyyy), or null if there is none
+     * @throws IllegalArgumentException if the resource is unknown or length is not positive
+     * @throws FSDateException if the date cannot be parsed or is outside the window
+     */
+    public String firstFreeWindow(K resource, String from, int length) {
+        int day = firstFreeWindow(resource, parse(from), length);
+        return day == FSEpochDayUtils.INVALID ? null : FSEpochDayUtils.format(day);
+    }
+
+    /**
+     * Counts the resources that are free on a day.
+     *
+     * @param day The epoch day
+     * @return The number of free resources
+     * @throws FSDateException if the day is outside the window
+     */
+    public int countFree(int day) {
+        int offset = offset(day, day + 1);
+        long stamp = lock.tryOptimisticRead();
+        int free = resourceCount - occupiedCounts[offset];
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                free = resourceCount - occupiedCounts[offset];
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Counts the resources that are free on the day of a date string.
+     *
+     * @param date The date
+     * @return The number of free resources
+     * @throws FSDateException if the date cannot be parsed or is outside the window
+     */
+    public int countFree(String date) {
+        return countFree(parse(date));
+    }
+
+    private long[] bits(K resource) {
+        var bits = resources.get(resource);
+        if (bits == null) {
+            throw new IllegalArgumentException("Unknown resource: " + resource);
+        }
+        return bits;
+    }
+
+    private int offset(int from, int to) {
+        if (to < from) {
+            throw new IllegalArgumentException("Range end cannot be before range start");
+        }
+        long start = (long) from - firstDay;
+        long end = (long) to - firstDay;
+        if (start < 0 || end > dayCount || start >= dayCount) {
+            throw new FSDateException("Range " + FSEpochDayUtils.format(from) + " - " + FSEpochDayUtils.format(to)
+                + " is outside the window starting " + FSEpochDayUtils.format(firstDay) + " of " + dayCount + " days");
+        }
+        return (int) start;
+    }
+
+    private void setRange(long[] bits, int start, int end, boolean occupied) {
+        for (int i = start; i < end; ) {
+            int word = i >>> 6;
+            int wordEnd = Math.min(end, (word + 1) << 6);
+            long mask = rangeMask(i, wordEnd);
+            long changed = occupied ? mask & ~bits[word] : mask & bits[word];
+            bits[word] = occupied ? bits[word] | mask : bits[word] & ~mask;
+            for (; changed != 0; changed &= changed - 1) {
+                occupiedCounts[(word << 6) + Long.numberOfTrailingZeros(changed)] += occupied ? 1 : -1;
+            }
+            i = wordEnd;
+        }
+    }
+
+    private void updateCounts(long[] bits, int start, int end, int delta) {
+        for (int word = start >>> 6; word < wordCount && word << 6 < end; word++) {
+            for (long set = bits[word]; set != 0; set &= set - 1) {
+                occupiedCounts[(word << 6) + Long.numberOfTrailingZeros(set)] += delta;
+            }
+        }
+    }
+
+    private int findFreeRun(long[] bits, int start, int length) {
+        while (start + length <= dayCount) {
+            int free = nextClearBit(bits, start, dayCount);
+            if (free + length > dayCount) {
+                return -1;
+            }
+            int occupied = nextSetBit(bits, free, free + length);
+            if (occupied >= free + length) {
+                return free;
+            }
+            start = occupied + 1;
+        }
+        return -1;
+    }
+
+    // Returns the first set bit in [start, end), or end if there is none
+    private static int nextSetBit(long[] bits, int start, int end) {
+        for (int i = start; i < end; ) {
+            int word = i >>> 6;
+            int wordEnd = Math.min(end, (word + 1) << 6);
+            long set = bits[word] & rangeMask(i, wordEnd);
+            if (set != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(set);
+            }
+            i = wordEnd;
+        }
+        return end;
+    }
+
+    // Returns the first clear bit in [start, end), or end if there is none
+    private static int nextClearBit(long[] bits, int start, int end) {
+        for (int i = start; i < end; ) {
+            int word = i >>> 6;
+            int wordEnd = Math.min(end, (word + 1) << 6);
+            long clear = ~bits[word] & rangeMask(i, wordEnd);
+            if (clear != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(clear);
+            }
+            i = wordEnd;
+        }
+        return end;
+    }
+
+    // Mask of the bits for [from, to) within one word; to may be the end of the word
+    private static long rangeMask(int from, int to) {
+        long upper = (to & 63) == 0 ? -1L : (1L << to) - 1;
+        return upper & (-1L << from);
+    }
+
+    private static int parse(String date) {
+        int epochDay = FSDateParser.parseEpochDay(date);
+        if (epochDay == FSDateParser.INVALID) {
+            throw new FSDateException("Failed to parse date string: \"" + date + "\"");
+        }
+        return epochDay;
+    }
+}
@@ -0,0 +1,182 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generator of daily slot grids: given a working window, a slot length,
+ * a step and breaks, it lists the slots that do not overlap any break or
+ * booking.
+ *
+ * Times are seconds of day (see {@link FSTimeOfDay}), and busy periods are
+ * half-open [start, end) ranges. A grid is computed by sorting and merging
+ * the busy periods as primitives and walking the window once, so no
+ * strings or boxed values are created; see {@link FSSlotGrid} for lazy
+ * rendering. String overloads take ranges as "HH:mm-HH:mm".
+ *
+ * Slots are aligned to the step counted from the opening time. All times
+ * belong to one day; ranges across midnight are not supported.
+ *
+ * This class is immutable and thread-safe.
+ */
+public class FSSlotGenerator {
+
+    private static final int MINUTES_PER_DAY = FSTimeOfDay.SECONDS_PER_DAY / 60;
+
+    private final int open;
+    private final int close;
+    private final int slotSeconds;
+    private final int stepSeconds;
+    private final int[] breaks;
+
+    /**
+     * Creates a generator.
+     *
+     * @param open The opening time in seconds of day
+     * @param close The closing time in seconds of day; slots must end by then
+     * @param slotMinutes The slot length in minutes
+     * @param stepMinutes The distance between slot starts in minutes
+     * @param breaks The breaks as consecutive start/end pairs in seconds of day
+     * @throws IllegalArgumentException if the window is empty, the slot length
+     *         or step is not 1 to 1440 minutes, or breaks does not hold pairs
+     */
+    public FSSlotGenerator(int open, int close, int slotMinutes, int stepMinutes, int... breaks) {
+        if (open < 0 || close > FSTimeOfDay.SECONDS_PER_DAY || open >= close) {
+            throw new IllegalArgumentException("Working window must be a non-empty range within one day");
+        }
+        if (slotMinutes <= 0 || stepMinutes <= 0 || slotMinutes > MINUTES_PER_DAY || stepMinutes > MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("Slot length and step must be between 1 and " + MINUTES_PER_DAY + " minutes");
+        }
+        this.open = open;
+        this.close = close;
+        this.slotSeconds = slotMinutes * 60;
+        this.stepSeconds = stepMinutes * 60;
+        this.breaks = requirePairs(breaks).clone();
+    }
+
+    /**
+     * Creates a generator whose slots follow each other without gaps.
+     *
+     * @param open The opening time (HH:mm or HH:mm:ss)
+     * @param close The closing time (HH:mm or HH:mm:ss)
+     * @param slotMinutes The slot length in minutes, also used as the step
+     * @param breaks The breaks as "HH:mm-HH:mm" ranges
+     * @throws FSDateException if a time cannot be parsed
+     * @throws IllegalArgumentException if the window is empty or the slot length is not 1 to 1440 minutes
+     */
+    public FSSlotGenerator(String open, String close, int slotMinutes, String... breaks) {
+        this(parseTime(open), parseTime(close), slotMinutes, slotMinutes, parseRanges(breaks));
+    }
+
+    /**
+     * Generates the free slots of a day.
+     *
+     * @param bookings The bookings as consecutive start/end pairs in seconds of day, in any order
+     * @return The free slots
+     * @throws IllegalArgumentException if bookings does not hold pairs or a range is empty
+     */
+    public FSSlotGrid generate(int[] bookings) {
+        long[] busy = new long[(breaks.length + requirePairs(bookings).length) / 2];
+        int count = 0;
+        for (int i = 0; i < breaks.length; i += 2) {
+            busy[count++] = pack(breaks[i], breaks[i + 1]);
+        }
+        for (int i = 0; i < bookings.length; i += 2) {
+            busy[count++] = pack(bookings[i], bookings[i + 1]);
+        }
+        Arrays.sort(busy);
+
+        int[] starts = new int[Math.max(0, (close - open - slotSeconds) / stepSeconds + 1)];
+        int slots = 0;
+        int next = 0;
+        long busyEnd = Long.MIN_VALUE;
+        for (long t = open; t + slotSeconds <= close; ) {
+            // Merge the busy periods that start before the candidate slot ends
+            while (next < busy.length && (int) (busy[next] >> 32) < t + slotSeconds) {
+                busyEnd = Math.max(busyEnd, (int) busy[next]);
+                next++;
+            }
+            if (busyEnd > t) {
+                t = alignUp(busyEnd);
+            } else {
+                starts[slots++] = (int) t;
+                t += stepSeconds;
+            }
+        }
+        return new FSSlotGrid(Arrays.copyOf(starts, slots), slotSeconds);
+    }
+
+    /**
+     * Generates the free slots of a day.
+     *
+     * @param bookings The bookings as "HH:mm-HH:mm" ranges, in any order
+     * @return The free slots
+     * @throws FSDateException if a range cannot be parsed
+     */
+    public FSSlotGrid generate(String... bookings) {
+        return generate(parseRanges(bookings));
+    }
+
+    /**
+     * Generates the free slots of many resources in parallel using the
+     * common fork/join pool.
+     *
+     * @param bookingsByResource The bookings of each resource as consecutive
+     *        start/end pairs in seconds of day
+     * @param <K> The resource key type
+     * @return The free slots of each resource
+     * @throws IllegalArgumentException if any bookings array does not hold pairs
+     */
+    public <K> Map<K, FSSlotGrid> generateAll(Map<K, int[]> bookingsByResource) {
+        var result = new ConcurrentHashMap<K, FSSlotGrid>(bookingsByResource.size() * 4 / 3 + 1);
+        bookingsByResource.entrySet().parallelStream()
+            .forEach(entry -> result.put(entry.getKey(), generate(entry.getValue())));
+        return result;
+    }
+
+    private long alignUp(long time) {
+        long steps = (time - open + stepSeconds - 1) / stepSeconds;
+        return open + steps * stepSeconds;
+    }
+
+    // Start in the upper half so that sorting orders by start
+    private static long pack(int start, int end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Range end must be after range start");
+        }
+        return ((long) start << 32) | end;
+    }
+
+    private static int[] requirePairs(int[] ranges) {
+        if (ranges.length % 2 != 0) {
+            throw new IllegalArgumentException("Ranges must be given as start/end pairs");
+        }
+        return ranges;
+    }
+
+    private static int parseTime(String time) {
+        int secondOfDay = FSTimeOfDay.parse(time);
+        if (secondOfDay == FSTimeOfDay.INVALID) {
+            throw new FSDateException("Failed to parse time string: \"" + time + "\". Expected format: 'HH:mm:ss' or 'HH:mm'");
+        }
+        return secondOfDay;
+    }
+
+    private static int[] parseRanges(String[] ranges) {
+        int[] result = new int[ranges.length * 2];
+        for (int i = 0; i < ranges.length; i++) {
+            var range = ranges[i];
+            int dash = range.indexOf('-');
+            int start = dash < 0 ? FSTimeOfDay.INVALID : FSTimeOfDay.parse(range, 0, dash);
+            int end = dash < 0 ? FSTimeOfDay.INVALID : FSTimeOfDay.parse(range, dash + 1, range.length());
+            if (start == FSTimeOfDay.INVALID || end == FSTimeOfDay.INVALID) {
+                throw new FSDateException("Failed to parse time range: \"" + range + "\". Expected format: 'HH:mm-HH:mm'");
+            }
+            result[2 * i] = start;
+            result[2 * i + 1] = end;
+        }
+        return result;
+    }
+}
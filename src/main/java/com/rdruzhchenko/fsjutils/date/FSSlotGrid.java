@@ -0,0 +1,118 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Free time slots of one day, produced by {@link FSSlotGenerator}.
+ *
+ * Slot starts are kept as a primitive array of seconds of day (see
+ * {@link FSTimeOfDay}); strings are only rendered for the slots that are
+ * actually read through {@link #startTime(int)} or {@link #startTimes()}.
+ *
+ * This class is immutable and thread-safe.
+ */
+public class FSSlotGrid {
+
+    private final int[] starts;
+    private final int slotSeconds;
+
+    FSSlotGrid(int[] starts, int slotSeconds) {
+        this.starts = starts;
+        this.slotSeconds = slotSeconds;
+    }
+
+    /**
+     * Gets the number of free slots.
+     *
+     * @return The number of slots
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Gets the slot length.
+     *
+     * @return The slot length in seconds
+     */
+    public int getSlotSeconds() {
+        return slotSeconds;
+    }
+
+    /**
+     * Gets the start of a slot.
+     *
+     * @param slot The slot index
+     * @return The start in seconds of day
+     */
+    public int start(int slot) {
+        return starts[slot];
+    }
+
+    /**
+     * Gets the end of a slot.
+     *
+     * @param slot The slot index
+     * @return The end in seconds of day (exclusive)
+     */
+    public int end(int slot) {
+        return starts[slot] + slotSeconds;
+    }
+
+    /**
+     * Gets the slot starts.
+     *
+     * @return A copy of the starts in seconds of day, in ascending order
+     */
+    public int[] starts() {
+        return starts.clone();
+    }
+
+    /**
+     * Formats the start of a slot (HH:mm, or HH:mm:ss if the seconds are not 0).
+     *
+     * @param slot The slot index
+     * @return The formatted start time
+     */
+    public String startTime(int slot) {
+        return FSTimeOfDay.format(starts[slot]);
+    }
+
+    /**
+     * Formats the end of a slot (HH:mm, or HH:mm:ss if the seconds are not 0).
+     *
+     * @param slot The slot index
+     * @return The formatted end time
+     */
+    public String endTime(int slot) {
+        return FSTimeOfDay.format(end(slot) % FSTimeOfDay.SECONDS_PER_DAY);
+    }
+
+    /**
+     * Gets a read-only list view of the formatted slot starts. Each element
+     * is rendered when it is read, so taking a page of the list only
+     * formats that page.
+     *
+     * @return The formatted start times
+     */
+    public List<String> startTimes() {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return startTime(index);
+            }
+
+            @Override
+            public int size() {
+                return starts.length;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "FSSlotGrid" + Arrays.toString(startTimes().toArray());
+    }
+}
@@ -0,0 +1,266 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Primitive time-of-day API where a time is an {@code int} number of
+ * seconds since midnight (0 to 86399).
+ *
+ * The parser reads HH:mm and HH:mm:ss at the character level with the same
+ * strictness as {@link java.time.LocalTime#parse(CharSequence)}: two-digit
+ * fields, hours 00-23, minutes and seconds 00-59. Failures are reported with
+ * the {@link #INVALID} marker instead of exceptions. Formatting follows
+ * {@link java.time.LocalTime#toString()}: seconds are omitted when they are 0.
+ * Times can also be parsed from a region of a character sequence or of
+ * ASCII bytes, without creating a String.
+ *
+ * This class is stateless and thread-safe.
+ */
+public class FSTimeOfDay {
+
+    /** Marker returned when a string cannot be parsed. */
+    public static final int INVALID = Integer.MIN_VALUE;
+
+    /** Number of seconds in a day. */
+    public static final int SECONDS_PER_DAY = 86_400;
+
+    /** Length of a time formatted with seconds (HH:mm:ss). */
+    public static final int MAX_FORMATTED_LENGTH = 8;
+
+    /**
+     * Creates a time from its fields.
+     *
+     * @param hour The hour, 0 to 23
+     * @param minute The minute, 0 to 59
+     * @param second The second, 0 to 59
+     * @return The seconds of day
+     * @throws FSDateException if a field is out of range
+     */
+    public static int of(int hour, int minute, int second) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            throw new FSDateException("Invalid time: " + hour + ":" + minute + ":" + second);
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * Parses a time in format HH:mm or HH:mm:ss.
+     *
+     * @param text The string to parse
+     * @return The seconds of day, or {@link #INVALID} if the string is null or not a valid time
+     */
+    public static int parse(CharSequence text) {
+        if (text == null) {
+            return INVALID;
+        }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses a time in format HH:mm or HH:mm:ss occupying a region of a character sequence.
+     *
+     * @param text The characters to parse
+     * @param start The index of the first character of the time
+     * @param end The index after the last character of the time
+     * @return The seconds of day, or {@link #INVALID} if the region is not a valid time
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parse(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        int length = end - start;
+        if (length != 5 && length != 8) {
+            return INVALID;
+        }
+        int hour = FSDateComparators.twoDigits(text, start);
+        if (hour < 0 || hour > 23 || text.charAt(start + 2) != ':') {
+            return INVALID;
+        }
+        int minute = FSDateComparators.twoDigits(text, start + 3);
+        if (minute < 0 || minute > 59) {
+            return INVALID;
+        }
+        int second = 0;
+        if (length == 8) {
+            second = FSDateComparators.twoDigits(text, start + 6);
+            if (text.charAt(start + 5) != ':' || second < 0 || second > 59) {
+                return INVALID;
+            }
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * Parses a time in format HH:mm or HH:mm:ss from ASCII bytes.
+     *
+     * @param bytes The bytes to parse
+     * @param offset The index of the first byte of the time
+     * @param length The number of bytes of the time
+     * @return The seconds of day, or {@link #INVALID} if the bytes are not a valid time
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parse(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return parse(bytes, null, offset, length);
+    }
+
+    /**
+     * Parses a time in format HH:mm or HH:mm:ss from ASCII bytes at absolute
+     * indexes of a buffer. The buffer position and limit are not used or changed.
+     *
+     * @param buffer The buffer to parse
+     * @param offset The index of the first byte of the time
+     * @param length The number of bytes of the time
+     * @return The seconds of day, or {@link #INVALID} if the bytes are not a valid time
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static int parse(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.capacity());
+        return parse(null, buffer, offset, length);
+    }
+
+    // Byte twin of parse(CharSequence, int, int), reading the array if it is not null and the buffer otherwise
+    private static int parse(byte[] array, ByteBuffer buffer, int start, int length) {
+        if (length != 5 && length != 8) {
+            return INVALID;
+        }
+        int hour = twoDigits(array, buffer, start);
+        if (hour < 0 || hour > 23 || FSDateParser.byteAt(array, buffer, start + 2) != ':') {
+            return INVALID;
+        }
+        int minute = twoDigits(array, buffer, start + 3);
+        if (minute < 0 || minute > 59) {
+            return INVALID;
+        }
+        int second = 0;
+        if (length == 8) {
+            second = twoDigits(array, buffer, start + 6);
+            if (FSDateParser.byteAt(array, buffer, start + 5) != ':' || second < 0 || second > 59) {
+                return INVALID;
+            }
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    private static int twoDigits(byte[] array, ByteBuffer buffer, int index) {
+        int high = FSDateParser.byteAt(array, buffer, index) - '0';
+        int low = FSDateParser.byteAt(array, buffer, index + 1) - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            return -1;
+        }
+        return high * 10 + low;
+    }
+
+    /**
+     * Compares two times.
+     *
+     * @param time1 The first seconds of day
+     * @param time2 The second seconds of day
+     * @return A negative number, zero or a positive number as time1 is before, equal to or after time2
+     */
+    public static int compare(int time1, int time2) {
+        return Integer.compare(time1, time2);
+    }
+
+    /**
+     * Adds minutes to a time, wrapping around midnight.
+     *
+     * @param secondOfDay The seconds of day
+     * @param minutes The number of minutes to add (can be negative)
+     * @return The resulting seconds of day
+     */
+    public static int plusMinutes(int secondOfDay, long minutes) {
+        long shift = Math.floorMod(minutes, SECONDS_PER_DAY / 60) * 60L;
+        return (int) ((secondOfDay + shift) % SECONDS_PER_DAY);
+    }
+
+    /**
+     * Gets the hour of a time.
+     *
+     * @param secondOfDay The seconds of day
+     * @return The hour, 0 to 23
+     */
+    public static int hour(int secondOfDay) {
+        return secondOfDay / 3600;
+    }
+
+    /**
+     * Gets the minute of a time.
+     *
+     * @param secondOfDay The seconds of day
+     * @return The minute, 0 to 59
+     */
+    public static int minute(int secondOfDay) {
+        return secondOfDay / 60 % 60;
+    }
+
+    /**
+     * Gets the second of a time.
+     *
+     * @param secondOfDay The seconds of day
+     * @return The second, 0 to 59
+     */
+    public static int second(int secondOfDay) {
+        return secondOfDay % 60;
+    }
+
+    /**
+     * Formats a time as HH:mm, or HH:mm:ss if the seconds are not 0.
+     *
+     * @param secondOfDay The seconds of day
+     * @return The formatted time
+     */
+    public static String format(int secondOfDay) {
+        var buffer = new char[MAX_FORMATTED_LENGTH];
+        return new String(buffer, 0, formatTo(secondOfDay, buffer, 0));
+    }
+
+    /**
+     * Appends a time as HH:mm, or HH:mm:ss if the seconds are not 0.
+     *
+     * @param secondOfDay The seconds of day
+     * @param sb The StringBuilder to append to
+     * @return The same StringBuilder
+     */
+    public static StringBuilder formatTo(int secondOfDay, StringBuilder sb) {
+        appendTwoDigits(sb, hour(secondOfDay));
+        sb.append(':');
+        appendTwoDigits(sb, minute(secondOfDay));
+        if (second(secondOfDay) != 0) {
+            sb.append(':');
+            appendTwoDigits(sb, second(secondOfDay));
+        }
+        return sb;
+    }
+
+    /**
+     * Writes a time as HH:mm, or HH:mm:ss if the seconds are not 0, into a char array.
+     * At most {@link #MAX_FORMATTED_LENGTH} characters are written.
+     *
+     * @param secondOfDay The seconds of day
+     * @param dst The destination array
+     * @param offset The index to start writing at
+     * @return The index after the last written character
+     */
+    public static int formatTo(int secondOfDay, char[] dst, int offset) {
+        writeTwoDigits(dst, offset, hour(secondOfDay));
+        dst[offset + 2] = ':';
+        writeTwoDigits(dst, offset + 3, minute(secondOfDay));
+        if (second(secondOfDay) == 0) {
+            return offset + 5;
+        }
+        dst[offset + 5] = ':';
+        writeTwoDigits(dst, offset + 6, second(secondOfDay));
+        return offset + MAX_FORMATTED_LENGTH;
+    }
+
+    private static void appendTwoDigits(StringBuilder sb, int value) {
+        sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void writeTwoDigits(char[] dst, int offset, int value) {
+        dst[offset] = (char) ('0' + value / 10);
+        dst[offset + 1] = (char) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,96 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * Cached "today at start of day" in the time zone of a clock.
+ * The current day is computed once and reused until the next midnight of
+ * that zone, so reading it costs a clock query and a volatile load.
+ *
+ * This class is thread-safe.
+ */
+public class FSToday {
+
+    private final Clock clock;
+    private volatile Snapshot snapshot = new Snapshot(0, null, Long.MIN_VALUE, Long.MIN_VALUE);
+
+    /**
+     * Creates a cached today backed by the system clock in the default time zone.
+     * The zone is the default at construction; later changes to the default
+     * time zone are not followed.
+     */
+    public FSToday() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a cached today backed by the given clock.
+     *
+     * @param clock The clock providing the current instant and time zone
+     * @throws IllegalArgumentException if clock is null
+     */
+    public FSToday(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the clock backing this instance.
+     *
+     * @return The underlying clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets today as an epoch day.
+     *
+     * @return The number of days since 01.01.1970
+     */
+    public int epochDay() {
+        return current().epochDay();
+    }
+
+    /**
+     * Gets today as a LocalDate.
+     *
+     * @return Today's date
+     */
+    public LocalDate localDate() {
+        return current().localDate();
+    }
+
+    /**
+     * Gets the start of today as a Date.
+     * A new Date is returned on each call because Date is mutable.
+     *
+     * @return The start of today
+     */
+    public Date date() {
+        return new Date(current().startOfDay());
+    }
+
+    private Snapshot current() {
+        long now = clock.millis();
+        var current = snapshot;
+        if (now >= current.startOfDay() && now < current.nextStartOfDay()) {
+            return current;
+        }
+        var zone = clock.getZone();
+        var today = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+        current = new Snapshot((int) today.toEpochDay(), today,
+            today.atStartOfDay(zone).toInstant().toEpochMilli(),
+            today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        snapshot = current;
+        return current;
+    }
+
+    private record Snapshot(int epochDay, LocalDate localDate, long startOfDay, long nextStartOfDay) {
+    }
+}
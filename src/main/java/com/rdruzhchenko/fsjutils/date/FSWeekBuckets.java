@@ -0,0 +1,83 @@
+package com.rdruzhchenko.fsjutils.date;
+
+/**
+ * Rows of a date column grouped into ISO weeks (Monday to Sunday),
+ * as produced by {@link FSDateColumnUtils#bucketByWeek(FSDateColumn)}.
+ *
+ * Buckets are numbered from 0 for the earliest week present in the column,
+ * so a bucket number can be used directly as an index into an aggregation
+ * array of {@link #bucketCount()} elements. Invalid rows have bucket -1.
+ *
+ * The arrays are exposed without copying. Instances are safe to share
+ * between threads as long as the arrays are not modified.
+ */
+public class FSWeekBuckets {
+
+    private final int firstWeekIndex;
+    private final int[] buckets;
+    private final int[] counts;
+
+    FSWeekBuckets(int firstWeekIndex, int[] buckets, int[] counts) {
+        this.firstWeekIndex = firstWeekIndex;
+        this.buckets = buckets;
+        this.counts = counts;
+    }
+
+    /**
+     * Returns the number of weeks between the earliest and the latest week,
+     * inclusive.
+     *
+     * @return The number of buckets
+     */
+    public int bucketCount() {
+        return counts.length;
+    }
+
+    /**
+     * Returns the bucket of a row.
+     *
+     * @param row The row index
+     * @return The bucket, or -1 if the row is invalid
+     */
+    public int bucket(int row) {
+        return buckets[row];
+    }
+
+    /**
+     * Returns the Monday of a bucket.
+     *
+     * @param bucket The bucket
+     * @return The epoch day of the Monday
+     */
+    public int weekStart(int bucket) {
+        return FSEpochDayUtils.weekIndexStart(firstWeekIndex + bucket);
+    }
+
+    /**
+     * Returns the week index (see {@link FSEpochDayUtils#weekIndex(int)})
+     * of the first bucket.
+     *
+     * @return The week index of bucket 0
+     */
+    public int firstWeekIndex() {
+        return firstWeekIndex;
+    }
+
+    /**
+     * Returns the bucket of every row. The array is not copied.
+     *
+     * @return The backing array of buckets
+     */
+    public int[] buckets() {
+        return buckets;
+    }
+
+    /**
+     * Returns the number of rows in every bucket. The array is not copied.
+     *
+     * @return The backing array of counts
+     */
+    public int[] counts() {
+        return counts;
+    }
+}
@@ -0,0 +1,269 @@
+package com.rdruzhchenko.fsjutils.date;
+
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Date conversions bound to a single time zone.
+ *
+ * The zone rules are resolved once, and the start of each day between
+ * 01.01.1900 and 31.12.2100 is cached in lazily filled tables, so converting
+ * between {@link Date}, {@link LocalDate} and epoch days is a table lookup
+ * instead of a zone-rules query. Days outside that window are computed from
+ * the rules directly. For fixed-offset zones no table is needed at all.
+ *
+ * The results match the corresponding {@link FSDateUtils} methods evaluated
+ * in the bound zone, including the handling of days whose midnight falls
+ * into a daylight saving gap.
+ *
+ * This class is thread-safe.
+ */
+public class FSZonedDateUtils {
+
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final int FIRST_DAY = (int) LocalDate.of(1900, 1, 1).toEpochDay();
+    private static final int END_DAY = (int) LocalDate.of(2101, 1, 1).toEpochDay();
+    private static final int CHUNK_SHIFT = 9;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final boolean fixedOffset;
+    private final long offsetMillis;
+    private final AtomicReferenceArray<long[]> chunks;
+
+    /**
+     * Creates conversions bound to the given time zone.
+     *
+     * @param zone The time zone
+     * @throws IllegalArgumentException if zone is null
+     */
+    public FSZonedDateUtils(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixedOffset = rules.isFixedOffset();
+        this.offsetMillis = fixedOffset ? rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L : 0;
+        this.chunks = fixedOffset ? null : new AtomicReferenceArray<>(((END_DAY - FIRST_DAY) >> CHUNK_SHIFT) + 1);
+    }
+
+    /**
+     * Creates conversions bound to the current JVM default time zone.
+     *
+     * @return A new instance for {@link ZoneId#systemDefault()}
+     */
+    public static FSZonedDateUtils systemDefault() {
+        return new FSZonedDateUtils(ZoneId.systemDefault());
+    }
+
+    /**
+     * Gets the bound time zone.
+     *
+     * @return The time zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the start of a day in this zone.
+     *
+     * @param epochDay The day as the number of days since 01.01.1970
+     * @return The start of the day in milliseconds since the epoch
+     */
+    public long startOfDay(long epochDay) {
+        if (fixedOffset) {
+            return epochDay * DAY_MILLIS - offsetMillis;
+        }
+        if (epochDay >= FIRST_DAY && epochDay < END_DAY) {
+            int index = (int) epochDay - FIRST_DAY;
+            var chunk = chunks.get(index >>> CHUNK_SHIFT);
+            if (chunk == null) {
+                chunk = fillChunk(index >>> CHUNK_SHIFT);
+            }
+            return chunk[index & CHUNK_MASK];
+        }
+        return computeStartOfDay(epochDay);
+    }
+
+    /**
+     * Gets the day containing an instant in this zone.
+     *
+     * @param epochMilli The instant in milliseconds since the epoch
+     * @return The number of days since 01.01.1970
+     */
+    public long epochDay(long epochMilli) {
+        if (fixedOffset) {
+            return Math.floorDiv(epochMilli + offsetMillis, DAY_MILLIS);
+        }
+        // Zone offsets stay within +/-18 hours, so the local day is the UTC
+        // day or one of its neighbours.
+        long day = Math.floorDiv(epochMilli, DAY_MILLIS);
+        if (epochMilli < startOfDay(day)) {
+            return day - 1;
+        }
+        if (epochMilli >= startOfDay(day + 1)) {
+            return day + 1;
+        }
+        return day;
+    }
+
+    /**
+     * Converts a Date to an epoch day in this zone.
+     *
+     * @param date The Date object to convert
+     * @return The number of days since 01.01.1970
+     * @throws ArithmeticException if the day does not fit into an int
+     */
+    public int dateToEpochDay(Date date) {
+        return Math.toIntExact(epochDay(date.getTime()));
+    }
+
+    /**
+     * Converts an epoch day to a Date at the start of that day in this zone.
+     *
+     * @param epochDay The number of days since 01.01.1970
+     * @return The Date object
+     */
+    public Date epochDayToDate(long epochDay) {
+        return new Date(startOfDay(epochDay));
+    }
+
+    /**
+     * Converts a java.util.Date to a java.time.LocalDate in this zone.
+     *
+     * @param dateToConvert The Date object to convert
+     * @return The LocalDate object
+     */
+    public LocalDate dateToLocalDate(Date dateToConvert) {
+        return LocalDate.ofEpochDay(epochDay(dateToConvert.getTime()));
+    }
+
+    /**
+     * Converts a java.time.LocalDate to a java.util.Date at the start of that day in this zone.
+     *
+     * @param dateToConvert The LocalDate object to convert
+     * @return The Date object
+     */
+    public Date localDateToDate(LocalDate dateToConvert) {
+        return new Date(startOfDay(dateToConvert.toEpochDay()));
+    }
+
+    /**
+     * Converts a java.util.Date to a java.time.LocalDateTime in this zone.
+     *
+     * @param date The Date object to convert
+     * @return The LocalDateTime object
+     */
+    public LocalDateTime dateToLocalDateTime(Date date) {
+        long millis = date.getTime();
+        int offsetSeconds = fixedOffset
+            ? (int) (offsetMillis / 1000)
+            : rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds();
+        long localMillis = millis + offsetSeconds * 1000L;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L),
+            (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts a date string to a Date at the start of that day in this zone.
+     * The string is parsed with the rules of {@link FSDateUtils#dateFromString(String)}.
+     *
+     * @param dateString The date string to convert
+     * @return The Date object, or null if the input is null or empty
+     * @throws FSDateException if the date string cannot be parsed
+     */
+    public Date dateFromString(String dateString) throws FSDateException {
+        if (dateString == null || dateString.isEmpty()) {
+            return null;
+        }
+        int epochDay = FSDateParser.parseEpochDay(dateString);
+        if (epochDay == FSDateParser.INVALID) {
+            throw new FSDateException("Failed to parse date string: \"" + dateString.trim() + "\". Expected formats: "
+                + FSDateUtils.DATE_FORMAT_LONG + ", " + FSDateUtils.DATE_FORMAT_MIDDLE + ", or " + FSDateUtils.DATE_FORMAT_SHORT);
+        }
+        return new Date(startOfDay(epochDay));
+    }
+
+    /**
+     * Converts a date string to a LocalDateTime at the start of that day in this zone.
+     *
+     * @param dateString The date string to convert
+     * @return The LocalDateTime object
+     * @throws FSDateException if the date string cannot be parsed
+     */
+    public LocalDateTime dateStringToDateTime(String dateString) {
+        return dateToLocalDateTime(dateFromString(dateString));
+    }
+
+    /**
+     * Converts a Date object to a string using the standard date format (dd.MM.yyyy).
+     *
+     * @param date The Date object to convert
+     * @return The formatted date string, or null if the input is null
+     */
+    public String dateToString(Date date) {
+        if (date == null) {
+            return null;
+        }
+        long epochDay = epochDay(date.getTime());
+        if (epochDay < FIRST_DAY || epochDay > Integer.MAX_VALUE) {
+            return FSDateFormatters.DATE_LONG.format(LocalDate.ofEpochDay(epochDay));
+        }
+        return FSEpochDayUtils.format((int) epochDay);
+    }
+
+    /**
+     * Adds a specified number of days to a Date and returns the start of the resulting day.
+     *
+     * @param date The Date object to add days to
+     * @param i The number of days to add (can be negative to subtract days)
+     * @return A new Date object with the days added
+     */
+    public Date dateByAddDaysAsDate(Date date, int i) {
+        return new Date(startOfDay(epochDay(date.getTime()) + i));
+    }
+
+    /**
+     * Calculates the number of calendar days between two dates in this zone.
+     *
+     * @param dateBegin The start date
+     * @param dateEnd The end date
+     * @return The number of days between the dates, or -1 if either date is null
+     */
+    public int daysBetween(Date dateBegin, Date dateEnd) {
+        if (dateBegin == null || dateEnd == null) {
+            return -1;
+        }
+        return (int) (epochDay(dateEnd.getTime()) - epochDay(dateBegin.getTime()));
+    }
+
+    private long[] fillChunk(int chunkIndex) {
+        var chunk = new long[1 << CHUNK_SHIFT];
+        long firstDay = FIRST_DAY + ((long) chunkIndex << CHUNK_SHIFT);
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = computeStartOfDay(firstDay + i);
+        }
+        // Racing threads compute identical chunks, so the last write wins harmlessly.
+        chunks.set(chunkIndex, chunk);
+        return chunk;
+    }
+
+    private long computeStartOfDay(long epochDay) {
+        var midnight = LocalDate.ofEpochDay(epochDay).atStartOfDay();
+        var transition = rules.getTransition(midnight);
+        if (transition != null && transition.isGap()) {
+            return transition.getInstant().toEpochMilli();
+        }
+        return midnight.toInstant(rules.getValidOffsets(midnight).get(0)).toEpochMilli();
+    }
+}
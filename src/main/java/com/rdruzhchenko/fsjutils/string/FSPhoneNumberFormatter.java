@@ -1,5 +1,7 @@
 package com.rdruzhchenko.fsjutils.string;
 
+import java.util.regex.Pattern;
+
 /**
  * Utility class for formatting phone numbers.
  * This class provides methods to standardize phone number formats,
@@ -7,6 +9,8 @@ package com.rdruzhchenko.fsjutils.string;
  */
 public class FSPhoneNumberFormatter {
 
+    private static final Pattern NON_PHONE_CHARS = Pattern.compile("[^\\d+]");
+
     /**
      * Formats a phone number by removing non-digit characters and adding
      * the Ukrainian country code (+38) if needed.
@@ -20,7 +24,7 @@ public class FSPhoneNumberFormatter {
             return phoneNumber;
         }
 
-        String digits = phoneNumber.replaceAll("[^\\d+]", "");
+        String digits = NON_PHONE_CHARS.matcher(phoneNumber).replaceAll("");
 
         if (!digits.startsWith("+")) {
             if (digits.length() == 10) {
@@ -1,8 +1,8 @@
 package com.rdruzhchenko.fsjutils.string;
 
-import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSCalendarTable;
+import com.rdruzhchenko.fsjutils.date.FSEpochDayUtils;
 import com.rdruzhchenko.fsjutils.exception.FSValidationException;
-import java.time.LocalDate;
 
 /**
  * Utility class for working with RNOKPP codes (Ukrainian tax identification numbers).
@@ -12,7 +12,6 @@ import java.time.LocalDate;
 public class FSRnokppUtils {
 
     private static final int RNOKPP_LENGTH = 10;
-    private static final String RNOKPP_PATTERN = "\\d{" + RNOKPP_LENGTH + "}";
     private static final String INVALID_FORMAT_MESSAGE = "Invalid RNOKPP code format: %s. RNOKPP code must contain exactly " + RNOKPP_LENGTH + " digits.";
 
     // Constants for control digit calculation
@@ -22,9 +21,8 @@ public class FSRnokppUtils {
 
     // Constants for date extraction
     private static final int DATE_DIGITS_LENGTH = 5;
-    private static final int BASE_YEAR = 1899;
-    private static final int BASE_MONTH = 12;
-    private static final int BASE_DAY = 31;
+    // Epoch day of 31.12.1899
+    private static final int BASE_EPOCH_DAY = FSCalendarTable.firstDayOfMonth(1900, 1) - 1;
 
     // Constants for gender extraction
     private static final int GENDER_DIGIT_INDEX = 8;
@@ -40,19 +38,15 @@ public class FSRnokppUtils {
             return false;
         }
 
-        int[] digits = new int[RNOKPP_LENGTH];
-        for (int i = 0; i < RNOKPP_LENGTH; i++) {
-            digits[i] = Character.getNumericValue(code.charAt(i));
-        }
-
+        // The format check guarantees ASCII digits, so digits are read straight from the chars
         int controlSum = 0;
         for (int i = 0; i < RNOKPP_LENGTH - 1; i++) {
-            controlSum += digits[i] * CONTROL_WEIGHTS[i];
+            controlSum += (code.charAt(i) - '0') * CONTROL_WEIGHTS[i];
         }
 
         int controlDigit = (controlSum % MODULO_11) % MODULO_10;
 
-        return controlDigit == digits[RNOKPP_LENGTH - 1];
+        return controlDigit == code.charAt(RNOKPP_LENGTH - 1) - '0';
     }
 
     /**
@@ -66,10 +60,8 @@ public class FSRnokppUtils {
     public static String getDob(String code) {
         validateRnokppFormat(code);
 
-        int daysSinceBase = Integer.parseInt(code.substring(0, DATE_DIGITS_LENGTH));
-        LocalDate baseDate = LocalDate.of(BASE_YEAR, BASE_MONTH, BASE_DAY);
-        var date = baseDate.plusDays(daysSinceBase);
-        return FSDateUtils.dateToString(FSDateUtils.localDateToDate(date));
+        int daysSinceBase = Integer.parseInt(code, 0, DATE_DIGITS_LENGTH, 10);
+        return FSEpochDayUtils.format(BASE_EPOCH_DAY + daysSinceBase);
     }
 
     /**
@@ -105,7 +97,17 @@ public class FSRnokppUtils {
      * @return true if the code has a valid format, false otherwise
      */
     private static boolean isValidRnokppFormat(String code) {
-        return code != null && code.matches(RNOKPP_PATTERN);
+        if (code == null || code.length() != RNOKPP_LENGTH) {
+            return false;
+        }
+        // Same as matching \d{10}, without compiling a pattern on every call
+        for (int i = 0; i < RNOKPP_LENGTH; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
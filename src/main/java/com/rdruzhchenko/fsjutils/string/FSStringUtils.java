@@ -3,6 +3,7 @@ package com.rdruzhchenko.fsjutils.string;
 import com.rdruzhchenko.fsjutils.exception.FSStringException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.regex.Pattern;
 
 /**
  * Utility class providing various string manipulation and validation operations.
@@ -10,6 +11,12 @@ import java.nio.file.Paths;
  * path handling, and string validation.
  */
 public class FSStringUtils {
+
+    // Compiled once, String.replaceAll and replaceFirst compile the pattern on every call
+    private static final Pattern WHITESPACE_RUN = Pattern.compile("\\s+");
+    private static final Pattern LEADING_WHITESPACE = Pattern.compile("^\\s+");
+    private static final Pattern LEADING_COLON = Pattern.compile("^:");
+
     /**
      * Trims all whitespace from a string and replaces multiple spaces with a single space.
      *
@@ -20,7 +27,7 @@ public class FSStringUtils {
         if (s == null) {
             return null;
         }
-        return s.trim().replaceAll("\\s+", " ");
+        return WHITESPACE_RUN.matcher(s.trim()).replaceAll(" ");
     }
 
     /**
@@ -33,7 +40,7 @@ public class FSStringUtils {
         if (s == null) {
             return null;
         }
-        return s.replaceFirst("^\\s+", "");
+        return LEADING_WHITESPACE.matcher(s).replaceFirst("");
     }
 
     /**
@@ -56,7 +63,7 @@ public class FSStringUtils {
         if (s == null) {
             return null;
         }
-        return s.replaceAll("^:", "");
+        return LEADING_COLON.matcher(s).replaceAll("");
     }
 
     /**
@@ -273,7 +280,8 @@ public class FSStringUtils {
             return false;
         }
 
-        for (char c : input.toCharArray()) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
             if (Character.isLetter(c) && !Character.isUpperCase(c)) {
                 return false;
             }
@@ -0,0 +1,171 @@
+package com.rdruzhchenko.fsjutils.timing;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, fixed-memory latency histogram with log-linear buckets.
+ *
+ * Every power-of-two range of values is split into 32 linear sub-buckets, so
+ * any non-negative long is tracked with a relative error below 1/32 (about
+ * 3%) using 1888 buckets. Recording is an atomic increment on one of several
+ * stripes chosen by the recording thread, which keeps contention low and
+ * never allocates. The memory footprint is fixed when the histogram is
+ * created: about 15 KB per stripe.
+ *
+ * Snapshots sum the stripes; interval snapshots also reset them, so each
+ * sample is counted in exactly one interval. This class is thread-safe.
+ */
+public class FSLatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+    private static final int SUM_SLOT = BUCKET_COUNT;
+    private static final int MAX_SLOT = BUCKET_COUNT + 1;
+    private static final int MAX_STRIPES = 16;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates a histogram with one stripe per available processor, rounded
+     * up to a power of two and capped at 16.
+     */
+    public FSLatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a histogram with the given number of stripes, rounded up to a
+     * power of two and capped at 16.
+     *
+     * @param stripeCount The desired number of stripes
+     * @throws IllegalArgumentException if stripeCount is not positive
+     */
+    public FSLatencyHistogram(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        int count = 1;
+        while (count < stripeCount && count < MAX_STRIPES) {
+            count <<= 1;
+        }
+        stripes = new AtomicLongArray[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT + 2);
+        }
+        stripeMask = count - 1;
+    }
+
+    /**
+     * Records one value. Negative values are recorded as 0.
+     *
+     * @param value The value to record, typically a duration in nanoseconds
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        var stripe = stripes[stripeIndex()];
+        stripe.getAndIncrement(bucketIndex(value));
+        stripe.getAndAdd(SUM_SLOT, value);
+        long max = stripe.get(MAX_SLOT);
+        while (value > max) {
+            if (stripe.compareAndSet(MAX_SLOT, max, value)) {
+                break;
+            }
+            max = stripe.get(MAX_SLOT);
+        }
+    }
+
+    /**
+     * Records the time elapsed since a start time obtained from {@link System#nanoTime()}.
+     *
+     * @param startNanos The start time in nanoseconds
+     * @return The recorded elapsed time in nanoseconds
+     */
+    public long recordElapsed(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        record(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * Takes a snapshot of all values recorded since creation or the last reset.
+     *
+     * @return The snapshot
+     */
+    public FSLatencySnapshot snapshot() {
+        return collect(false);
+    }
+
+    /**
+     * Takes a snapshot and resets the histogram, so the next interval
+     * snapshot only covers values recorded after this call.
+     *
+     * @return The snapshot of the interval that just ended
+     */
+    public FSLatencySnapshot intervalSnapshot() {
+        return collect(true);
+    }
+
+    /**
+     * Discards all recorded values.
+     */
+    public void reset() {
+        collect(true);
+    }
+
+    private FSLatencySnapshot collect(boolean reset) {
+        var counts = new long[BUCKET_COUNT];
+        long sum = 0;
+        long max = 0;
+        for (var stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += reset ? stripe.getAndSet(i, 0) : stripe.get(i);
+            }
+            sum += reset ? stripe.getAndSet(SUM_SLOT, 0) : stripe.get(SUM_SLOT);
+            max = Math.max(max, reset ? stripe.getAndSet(MAX_SLOT, 0) : stripe.get(MAX_SLOT));
+        }
+        return new FSLatencySnapshot(counts, sum, max);
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & stripeMask;
+    }
+
+    /**
+     * Gets the bucket of a non-negative value.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Gets the smallest value that falls into a bucket.
+     */
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    }
+
+    /**
+     * Gets the largest value that falls into a bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return bucketLowerBound(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,136 @@
+package com.rdruzhchenko.fsjutils.timing;
+
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSDurationLabels;
+
+/**
+ * Immutable view of the values recorded by an {@link FSLatencyHistogram}.
+ *
+ * Percentiles are reported as the largest value of the bucket that holds
+ * them, capped at the recorded maximum, so they are accurate to about 3%.
+ * Values are assumed to be nanoseconds when formatted.
+ */
+public class FSLatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    FSLatencySnapshot(long[] counts, long sum, long max) {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        this.counts = counts;
+        this.count = total;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return The number of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The maximum, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the exact mean of the recorded values.
+     *
+     * @return The mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Gets the median.
+     *
+     * @return The 50th percentile
+     */
+    public long getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    /**
+     * Gets the 99th percentile.
+     *
+     * @return The 99th percentile
+     */
+    public long getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    /**
+     * Gets the 99.9th percentile.
+     *
+     * @return The 99.9th percentile
+     */
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Gets the value below or at which the given percentage of values fall.
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return The value at the percentile, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if percentile is outside 0..100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(FSLatencyHistogram.bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Appends a one-line summary with the count and the p50, p99, p999 and
+     * max durations, formatted with {@link FSDateUtils#formatDuration(long, StringBuilder, FSDurationLabels)}.
+     *
+     * @param out The StringBuilder to append to
+     * @param labels The unit labels to use
+     * @return The same StringBuilder, for chaining
+     */
+    public StringBuilder appendTo(StringBuilder out, FSDurationLabels labels) {
+        out.append("count=").append(count);
+        FSDateUtils.formatDuration(getP50(), out.append(", p50="), labels);
+        FSDateUtils.formatDuration(getP99(), out.append(", p99="), labels);
+        FSDateUtils.formatDuration(getP999(), out.append(", p999="), labels);
+        FSDateUtils.formatDuration(max, out.append(", max="), labels);
+        return out;
+    }
+
+    /**
+     * Returns a one-line summary with Ukrainian unit labels.
+     *
+     * @return The summary
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(96), FSDurationLabels.UKRAINIAN).toString();
+    }
+}
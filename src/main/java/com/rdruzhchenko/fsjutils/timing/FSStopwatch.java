@@ -0,0 +1,194 @@
+package com.rdruzhchenko.fsjutils.timing;
+
+import com.rdruzhchenko.fsjutils.date.FSDurationLabels;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Named stopwatch that aggregates elapsed times into an {@link FSLatencyHistogram}.
+ *
+ * Typical use on a hot path:
+ * <pre>
+ * private static final FSStopwatch SAVE = FSStopwatch.named("order.save");
+ *
+ * long start = SAVE.start();
+ * ...
+ * SAVE.stop(start);
+ * </pre>
+ * Starting and stopping work with primitive nanosecond timestamps from
+ * {@link System#nanoTime()}, so timing a call does not allocate.
+ * Stopwatches obtained by name are shared process-wide. This class is thread-safe.
+ */
+public class FSStopwatch {
+
+    private static final Map<String, FSStopwatch> registry = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final FSLatencyHistogram histogram;
+
+    /**
+     * Creates a stopwatch that is not registered by name.
+     *
+     * @param name The name used in reports
+     * @throws IllegalArgumentException if name is null
+     */
+    public FSStopwatch(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        this.name = name;
+        this.histogram = new FSLatencyHistogram();
+    }
+
+    /**
+     * Gets the shared stopwatch with the given name, creating it on first use.
+     *
+     * @param name The stopwatch name
+     * @return The stopwatch registered under that name
+     * @throws IllegalArgumentException if name is null
+     */
+    public static FSStopwatch named(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        return registry.computeIfAbsent(name, FSStopwatch::new);
+    }
+
+    /**
+     * Removes the shared stopwatch with the given name.
+     *
+     * @param name The stopwatch name
+     * @return The removed stopwatch, or null if none was registered
+     */
+    public static FSStopwatch remove(String name) {
+        return name == null ? null : registry.remove(name);
+    }
+
+    /**
+     * Takes snapshots of all shared stopwatches, sorted by name.
+     *
+     * @param reset true to reset each stopwatch after taking its snapshot
+     * @return The snapshots keyed by stopwatch name
+     */
+    public static Map<String, FSLatencySnapshot> snapshotAll(boolean reset) {
+        var result = new TreeMap<String, FSLatencySnapshot>();
+        registry.forEach((name, stopwatch) ->
+            result.put(name, reset ? stopwatch.intervalSnapshot() : stopwatch.snapshot()));
+        return result;
+    }
+
+    /**
+     * Gets the name of this stopwatch.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the histogram holding the recorded times.
+     *
+     * @return The histogram
+     */
+    public FSLatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Starts timing.
+     *
+     * @return The start time in nanoseconds, to be passed to {@link #stop(long)}
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops timing and records the elapsed time.
+     *
+     * @param startNanos The value returned by {@link #start()}
+     * @return The elapsed time in nanoseconds
+     */
+    public long stop(long startNanos) {
+        return histogram.recordElapsed(startNanos);
+    }
+
+    /**
+     * Records an externally measured duration.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    /**
+     * Runs a task and records how long it took, including when it throws.
+     *
+     * @param task The task to time
+     */
+    public void time(Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            histogram.recordElapsed(start);
+        }
+    }
+
+    /**
+     * Calls a supplier and records how long it took, including when it throws.
+     *
+     * @param task The supplier to time
+     * @param <T> The result type
+     * @return The supplier's result
+     */
+    public <T> T time(Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            histogram.recordElapsed(start);
+        }
+    }
+
+    /**
+     * Takes a snapshot of all times recorded since creation or the last reset.
+     *
+     * @return The snapshot
+     */
+    public FSLatencySnapshot snapshot() {
+        return histogram.snapshot();
+    }
+
+    /**
+     * Takes a snapshot and starts a new interval.
+     *
+     * @return The snapshot of the interval that just ended
+     */
+    public FSLatencySnapshot intervalSnapshot() {
+        return histogram.intervalSnapshot();
+    }
+
+    /**
+     * Discards all recorded times.
+     */
+    public void reset() {
+        histogram.reset();
+    }
+
+    /**
+     * Formats a report line for the current snapshot, e.g.
+     * {@code order.save: count=10, p50=2 ms, p99=15 ms, p999=15 ms, max=15 ms}.
+     *
+     * @param labels The unit labels to use
+     * @return The report line
+     */
+    public String report(FSDurationLabels labels) {
+        var out = new StringBuilder(name.length() + 96).append(name).append(": ");
+        return snapshot().appendTo(out, labels).toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.rdruzhchenko.fsjutils;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures how many bytes a call allocates on the calling thread, using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * The call is warmed up first, so that the JIT has compiled it, and then
+ * the average over many calls is taken, which hides the few bytes that the
+ * measurement itself and an occasional TLAB refill add.
+ *
+ * <p>Budgets are per call and should leave room for the result the method
+ * has to return, but not for a SimpleDateFormat, a compiled Pattern or
+ * another per-call helper object, which is what these tests guard against.
+ * Tests are skipped on JVMs that cannot measure thread allocation.
+ */
+final class FSAllocationBudget {
+
+    static final int WARM_UP_CALLS = 20_000;
+    static final int MEASURED_CALLS = 20_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    // Keeps results reachable, so that the JIT cannot drop calls whose result is unused
+    private static volatile Object sink;
+
+    private FSAllocationBudget() {
+    }
+
+    /**
+     * Returns the average number of bytes allocated by one call of {@code call},
+     * which receives the index of the call and returns its result.
+     */
+    static double bytesPerCall(IntFunction<?> call) {
+        assumeTrue(THREADS != null, "Thread allocation measurement is not supported");
+        long threadId = Thread.currentThread().getId();
+
+        Object last = null;
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            last = call.apply(i);
+        }
+        sink = last;
+
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            last = call.apply(i);
+        }
+        long after = THREADS.getThreadAllocatedBytes(threadId);
+        sink = last;
+
+        return (double) (after - before) / MEASURED_CALLS;
+    }
+
+    /**
+     * Asserts that one call of {@code call} allocates at most {@code budget} bytes on average.
+     */
+    static void assertWithinBudget(String name, long budget, IntFunction<?> call) {
+        double actual = bytesPerCall(call);
+        assertTrue(actual <= budget,
+                String.format("%s allocates %.1f bytes per call, the budget is %d", name, actual, budget));
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
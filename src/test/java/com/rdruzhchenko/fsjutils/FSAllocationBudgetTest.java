@@ -0,0 +1,279 @@
+package com.rdruzhchenko.fsjutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateParser;
+import com.rdruzhchenko.fsjutils.date.FSDateTranscoder;
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSTimeOfDay;
+import com.rdruzhchenko.fsjutils.string.FSPhoneNumberFormatter;
+import com.rdruzhchenko.fsjutils.string.FSRnokppUtils;
+import com.rdruzhchenko.fsjutils.string.FSStringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static com.rdruzhchenko.fsjutils.FSAllocationBudget.assertWithinBudget;
+import static com.rdruzhchenko.fsjutils.FSAllocationBudget.bytesPerCall;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Per-call allocation budgets of the date and string hot paths.
+ * A per-call SimpleDateFormat costs about 2 KB and a per-call regex
+ * compilation 700 bytes or more, so every budget below is set under those.
+ */
+@DisplayName("Allocation budgets")
+class FSAllocationBudgetTest {
+
+    // Budget of methods that should not allocate at all
+    private static final long ALLOCATION_FREE = 8;
+    // Budget of methods that return a new dd.MM.yyyy or yyyy-MM-dd string
+    private static final long DATE_STRING = 160;
+    // Added to methods that use the JVM default zone, whose check clones the default TimeZone
+    private static final long DEFAULT_ZONE_CHECK = 64;
+
+    private static final String[] DATES = {"01.02.2023", "15.11.1999", "29.02.2024", "31.12.2100"};
+    private static final String[] DATE_TIMES = {"01.02.2023 10:00:00", "15.11.1999 09:30:15", "29.02.2024 23:59:59", "31.12.2100 00:00:00"};
+    private static final String[] POSTGRES_DATES = {"2023-02-01", "1999-11-15", "2024-02-29", "2100-12-31"};
+    private static final String[] TIMES = {"09:15", "23:59", "00:00", "12:30"};
+
+    private static String date(int i) {
+        return DATES[i & 3];
+    }
+
+    private static String nextDate(int i) {
+        return DATES[(i + 1) & 3];
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Budgets are for the default configuration
+        FSDateUtils.disableCachedClock();
+        FSDateUtils.disableParseCache();
+    }
+
+    @Nested
+    @DisplayName("Harness")
+    class HarnessTests {
+
+        @Test
+        @DisplayName("Should report a per-call SimpleDateFormat as over the date string budget")
+        void shouldReportPerCallSimpleDateFormatAsOverDateStringBudget() {
+            // Given
+            Date date = FSDateUtils.dateFromString("01.02.2023");
+
+            // When
+            double bytes = bytesPerCall(i -> new SimpleDateFormat(FSDateUtils.DATE_FORMAT_LONG).format(date));
+
+            // Then
+            assertTrue(bytes > DATE_STRING, String.valueOf(bytes));
+        }
+
+        @Test
+        @DisplayName("Should report a per-call regex compilation as over the trimAll budget")
+        void shouldReportPerCallRegexCompilationAsOverTrimAllBudget() {
+            // When
+            double bytes = bytesPerCall(i -> "  a  b   c  ".trim().replaceAll("\\s+", " "));
+
+            // Then
+            assertTrue(bytes > StringUtilsTests.TRIM_ALL, String.valueOf(bytes));
+        }
+    }
+
+    @Nested
+    @DisplayName("FSDateUtils")
+    class DateUtilsTests {
+
+        @Test
+        @DisplayName("Should validate and compare dates without allocating")
+        void shouldValidateAndCompareDatesWithoutAllocating() {
+            assertWithinBudget("isValidDate", ALLOCATION_FREE, i -> FSDateUtils.isValidDate(date(i)));
+            assertWithinBudget("isDateLessThan", ALLOCATION_FREE, i -> FSDateUtils.isDateLessThan(date(i), nextDate(i)));
+            assertWithinBudget("isDateLessOrEqualsThan", ALLOCATION_FREE,
+                    i -> FSDateUtils.isDateLessOrEqualsThan(date(i), nextDate(i)));
+            assertWithinBudget("isTimeLessThan", ALLOCATION_FREE,
+                    i -> FSDateUtils.isTimeLessThan(TIMES[i & 3], TIMES[(i + 1) & 3]));
+            assertWithinBudget("getMonthWordInGenitiveCase", ALLOCATION_FREE,
+                    i -> FSDateUtils.getMonthWordInGenitiveCase(date(i)));
+        }
+
+        @Test
+        @DisplayName("Should parse a date into nothing more than the Date")
+        void shouldParseDateIntoNothingMoreThanDate() {
+            assertWithinBudget("dateFromString", 48 + DEFAULT_ZONE_CHECK, i -> FSDateUtils.dateFromString(date(i)));
+        }
+
+        @Test
+        @DisplayName("Should produce date strings within the date string budget")
+        void shouldProduceDateStringsWithinDateStringBudget() {
+            // Given
+            Date[] dates = {FSDateUtils.dateFromString("01.02.2023"), FSDateUtils.dateFromString("15.11.1999")};
+
+            // When / Then
+            assertWithinBudget("dateToString", DATE_STRING + DEFAULT_ZONE_CHECK, i -> FSDateUtils.dateToString(dates[i & 1]));
+            assertWithinBudget("dateByAddDays", DATE_STRING, i -> FSDateUtils.dateByAddDays(date(i), 30));
+            assertWithinBudget("plusMonth", DATE_STRING, i -> FSDateUtils.plusMonth(date(i), 1));
+            assertWithinBudget("getWeekStart", DATE_STRING, i -> FSDateUtils.getWeekStart(date(i)));
+            assertWithinBudget("stringToPostgres", DATE_STRING, i -> FSDateUtils.stringToPostgres(date(i)));
+            assertWithinBudget("postgresToString", DATE_STRING, i -> FSDateUtils.postgresToString(POSTGRES_DATES[i & 3]));
+        }
+
+        @Test
+        @DisplayName("Should slice and shift date and time strings within their budgets")
+        void shouldSliceAndShiftDateAndTimeStringsWithinTheirBudgets() {
+            assertWithinBudget("getDay", 96, i -> FSDateUtils.getDay(date(i)));
+            assertWithinBudget("plusMinutesToTime", 128, i -> FSDateUtils.plusMinutesToTime(TIMES[i & 3], 45));
+            assertWithinBudget("compareDates", 192,
+                    i -> FSDateUtils.compareDates(DATE_TIMES[i & 3], DATE_TIMES[(i + 1) & 3]));
+            assertWithinBudget("yearForDate", 448, i -> FSDateUtils.yearForDate(date(i)));
+        }
+
+        @Test
+        @DisplayName("Should format durations and the current date within their budgets")
+        void shouldFormatDurationsAndCurrentDateWithinTheirBudgets() {
+            assertWithinBudget("formatDuration", 384, i -> FSDateUtils.formatDuration(123_456_789L * (i & 7)));
+            assertWithinBudget("getCurrentDate", 640, i -> FSDateUtils.getCurrentDate());
+            assertWithinBudget("getCurrentDateTime", 768, i -> FSDateUtils.getCurrentDateTime());
+        }
+    }
+
+    @Nested
+    @DisplayName("Byte parsing")
+    class ByteParsingTests {
+
+        // Fields at odd offsets, as in a record: "| dd.MM.yyyy | dd.MM.yyyy HH:mm:ss | HH:mm:ss | yyyy-MM-dd".
+        // Results are compared with the invalid markers, so that boxing them is not measured.
+        private final byte[] record = "| 29.02.2024 | 31.12.2023 23:59:59 | 23:59:59 | 2024-02-29"
+            .getBytes(StandardCharsets.US_ASCII);
+
+        @Test
+        @DisplayName("Should parse dates and times from a byte array without allocating")
+        void shouldParseDatesAndTimesFromByteArrayWithoutAllocating() {
+            assertWithinBudget("FSDateParser.parseEpochDay(byte[])", ALLOCATION_FREE,
+                    i -> FSDateParser.parseEpochDay(record, 2, 10) != FSDateParser.INVALID);
+            assertWithinBudget("FSDateParser.parseEpochSecond(byte[])", ALLOCATION_FREE,
+                    i -> FSDateParser.parseEpochSecond(record, 15, 19) != FSDateParser.INVALID_SECOND);
+            assertWithinBudget("FSDateParser.parsePostgresEpochDay(byte[])", ALLOCATION_FREE,
+                    i -> FSDateParser.parsePostgresEpochDay(record, 48, 10) != FSDateParser.INVALID);
+            assertWithinBudget("FSTimeOfDay.parse(byte[])", ALLOCATION_FREE,
+                    i -> FSTimeOfDay.parse(record, 37, 8) != FSTimeOfDay.INVALID);
+        }
+
+        @Test
+        @DisplayName("Should parse dates and times from heap and direct buffers without allocating")
+        void shouldParseDatesAndTimesFromHeapAndDirectBuffersWithoutAllocating() {
+            // Given
+            ByteBuffer heap = ByteBuffer.wrap(record);
+            ByteBuffer direct = ByteBuffer.allocateDirect(record.length).put(record);
+
+            // When / Then
+            for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+                assertWithinBudget("FSDateParser.parseEpochDay(ByteBuffer)", ALLOCATION_FREE,
+                        i -> FSDateParser.parseEpochDay(buffer, 2, 10) != FSDateParser.INVALID);
+                assertWithinBudget("FSDateParser.parseEpochSecond(ByteBuffer)", ALLOCATION_FREE,
+                        i -> FSDateParser.parseEpochSecond(buffer, 15, 19) != FSDateParser.INVALID_SECOND);
+                assertWithinBudget("FSTimeOfDay.parse(ByteBuffer)", ALLOCATION_FREE,
+                        i -> FSTimeOfDay.parse(buffer, 37, 8) != FSTimeOfDay.INVALID);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("FSDateTranscoder")
+    class DateTranscoderTests {
+
+        private static final int ROWS = 200;
+
+        private double bytesPerTranscode(String input) {
+            return bytesPerCall(i -> {
+                try {
+                    return FSDateTranscoder.columnToPostgres(new StringReader(input), Writer.nullWriter(), ';', 1) == 0;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("Should convert non-canonical cells without allocating per row")
+        void shouldConvertNonCanonicalCellsWithoutAllocatingPerRow() {
+            // Given: inputs of the same length, so that the per-call buffers cancel out
+            var canonical = "1;01.02.2023;x\n".repeat(ROWS);
+            var lenient = "1;1.2.2023  ;x\n".repeat(ROWS);
+
+            // When
+            double perRow = (bytesPerTranscode(lenient) - bytesPerTranscode(canonical)) / ROWS;
+
+            // Then
+            assertTrue(perRow <= ALLOCATION_FREE,
+                    String.format("A non-canonical cell allocates %.1f bytes more than a canonical one", perRow));
+        }
+    }
+
+    @Nested
+    @DisplayName("FSStringUtils")
+    class StringUtilsTests {
+
+        static final long TRIM_ALL = 640;
+
+        @Test
+        @DisplayName("Should trim within budgets that leave no room for compiling a pattern")
+        void shouldTrimWithinBudgetsThatLeaveNoRoomForCompilingPattern() {
+            assertWithinBudget("trimAll", TRIM_ALL, i -> FSStringUtils.trimAll("  a  b   c  "));
+            assertWithinBudget("trimLeading", 512, i -> FSStringUtils.trimLeading("   abc"));
+            assertWithinBudget("trimLeadingColon", 512, i -> FSStringUtils.trimLeadingColon(":abc"));
+        }
+
+        @Test
+        @DisplayName("Should check strings without allocating")
+        void shouldCheckStringsWithoutAllocating() {
+            assertWithinBudget("isInteger", ALLOCATION_FREE, i -> FSStringUtils.isInteger("12345"));
+            assertWithinBudget("isAllUpperCase", ALLOCATION_FREE, i -> FSStringUtils.isAllUpperCase("ABC"));
+        }
+
+        @Test
+        @DisplayName("Should capitalize within its budget")
+        void shouldCapitalizeWithinItsBudget() {
+            assertWithinBudget("capitalize", 288, i -> FSStringUtils.capitalize("abc"));
+        }
+    }
+
+    @Nested
+    @DisplayName("FSRnokppUtils")
+    class RnokppUtilsTests {
+
+        private static final String CODE = "3184710691";
+
+        @Test
+        @DisplayName("Should validate a code and read its gender without allocating")
+        void shouldValidateCodeAndReadItsGenderWithoutAllocating() {
+            assertWithinBudget("isValidRnokpp", ALLOCATION_FREE, i -> FSRnokppUtils.isValidRnokpp(CODE));
+            assertWithinBudget("getGender", ALLOCATION_FREE, i -> FSRnokppUtils.getGender(CODE));
+        }
+
+        @Test
+        @DisplayName("Should read the date of birth within the date string budget")
+        void shouldReadDateOfBirthWithinDateStringBudget() {
+            assertWithinBudget("getDob", DATE_STRING, i -> FSRnokppUtils.getDob(CODE));
+        }
+    }
+
+    @Nested
+    @DisplayName("FSPhoneNumberFormatter")
+    class PhoneNumberFormatterTests {
+
+        @Test
+        @DisplayName("Should format a phone number within a budget that leaves no room for compiling a pattern")
+        void shouldFormatPhoneNumberWithinBudgetThatLeavesNoRoomForCompilingPattern() {
+            assertWithinBudget("format", 960, i -> FSPhoneNumberFormatter.format("(050) 123-45-67"));
+        }
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("FSRnokppUtils")
@@ -27,4 +30,26 @@ class FSRnokppUtilsTest {
             assertFalse(result);
         }
     }
+
+    @Nested
+    @DisplayName("Date of birth tests")
+    class DateOfBirthTests {
+
+        @Test
+        @DisplayName("Should count days from 31.12.1899")
+        void shouldCountDaysFrom31121899() {
+            // Given
+            var base = LocalDate.of(1899, 12, 31);
+
+            for (int days = 0; days <= 99_999; days += 7) {
+                var code = String.format("%05d00000", days);
+
+                // When
+                var dob = FSRnokppUtils.getDob(code);
+
+                // Then
+                assertEquals(base.plusDays(days).format(DateTimeFormatter.ofPattern("dd.MM.yyyy")), dob, code);
+            }
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSBusinessCalendar;
+import com.rdruzhchenko.fsjutils.date.FSEpochDayUtils;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSBusinessCalendar")
+class FSBusinessCalendarTest {
+
+    private static final FSBusinessCalendar UKRAINE = FSBusinessCalendar.ukrainian(2020, 2030);
+
+    @Nested
+    @DisplayName("Holiday tests")
+    class HolidayTests {
+
+        @Test
+        @DisplayName("Should calculate Orthodox Easter")
+        void shouldCalculateOrthodoxEaster() {
+            // When / Then
+            assertEquals(LocalDate.of(2023, 4, 16), FSBusinessCalendar.orthodoxEaster(2023));
+            assertEquals(LocalDate.of(2024, 5, 5), FSBusinessCalendar.orthodoxEaster(2024));
+            assertEquals(LocalDate.of(2025, 4, 20), FSBusinessCalendar.orthodoxEaster(2025));
+        }
+
+        @Test
+        @DisplayName("Should treat Ukrainian holidays and weekends as non-working days")
+        void shouldTreatUkrainianHolidaysAndWeekendsAsNonWorkingDays() {
+            // When / Then
+            assertFalse(UKRAINE.isWorkingDay("24.08.2023"));
+            assertFalse(UKRAINE.isWorkingDay("25.12.2024"));
+            assertFalse(UKRAINE.isWorkingDay("16.06.2024"));
+            assertTrue(UKRAINE.isWorkingDay("26.12.2024"));
+            assertEquals(11, FSBusinessCalendar.ukrainianHolidays(2024).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Working day arithmetic tests")
+    class WorkingDayArithmeticTests {
+
+        @Test
+        @DisplayName("Should skip weekends and holidays when adding working days")
+        void shouldSkipWeekendsAndHolidaysWhenAddingWorkingDays() {
+            // When / Then
+            assertEquals("26.08.2024", UKRAINE.plusWorkingDays("23.08.2024", 1));
+            assertEquals("23.08.2024", UKRAINE.plusWorkingDays("26.08.2024", -1));
+            assertEquals("24.08.2024", UKRAINE.plusWorkingDays("24.08.2024", 0));
+            assertEquals("28.08.2024", UKRAINE.plusWorkingDays("24.08.2024", 3));
+        }
+
+        @Test
+        @DisplayName("Should match a day-by-day loop for counts and offsets")
+        void shouldMatchDayByDayLoopForCountsAndOffsets() {
+            // Given
+            var calendar = new FSBusinessCalendar(2024, 2024, Set.of(DayOfWeek.FRIDAY),
+                List.of(LocalDate.of(2024, 3, 4), LocalDate.of(2025, 1, 1)));
+            int from = FSEpochDayUtils.of(2024, 2, 20);
+
+            for (int to = from; to < FSEpochDayUtils.of(2024, 4, 1); to++) {
+                int expected = 0;
+                for (int day = from; day < to; day++) {
+                    if (FSEpochDayUtils.dayOfWeek(day) != 5 && day != FSEpochDayUtils.of(2024, 3, 4)) {
+                        expected++;
+                    }
+                }
+
+                // When / Then
+                assertEquals(expected, calendar.workingDaysBetween(from, to));
+                assertEquals(-expected, calendar.workingDaysBetween(to, from));
+                if (expected > 0) {
+                    int last = calendar.plusWorkingDays(from - 1, expected);
+                    assertTrue(last < to && calendar.isWorkingDay(last));
+                    assertEquals(expected, calendar.workingDaysBetween(from, last + 1));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should throw FSDateException outside the calendar range")
+        void shouldThrowFSDateExceptionOutsideCalendarRange() {
+            // When / Then
+            assertThrows(FSDateException.class, () -> UKRAINE.isWorkingDay("01.01.2031"));
+            assertThrows(FSDateException.class, () -> UKRAINE.plusWorkingDays("30.12.2030", 5));
+            assertThrows(FSDateException.class, () -> UKRAINE.plusWorkingDays("not a date", 1));
+            assertThrows(IllegalArgumentException.class,
+                () -> new FSBusinessCalendar(2025, 2024, FSBusinessCalendar.SATURDAY_SUNDAY, List.of()));
+        }
+    }
+}
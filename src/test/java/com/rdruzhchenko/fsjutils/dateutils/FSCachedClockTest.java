@@ -0,0 +1,143 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSCachedClock;
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSCachedClock")
+class FSCachedClockTest {
+
+    // Clock that only moves when the test advances it
+    static class ManualClock extends Clock {
+        private Instant instant;
+
+        ManualClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceMillis(long millis) {
+            instant = instant.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    private static Instant utc(int hour, int minute, int second) {
+        return LocalDateTime.of(2023, 12, 31, hour, minute, second).toInstant(ZoneOffset.UTC);
+    }
+
+    @Nested
+    @DisplayName("Rendering tests")
+    class RenderingTests {
+
+        @Test
+        @DisplayName("Should render all formats for the clock time")
+        void shouldRenderAllFormatsForClockTime() {
+            // Given
+            var cachedClock = new FSCachedClock(new ManualClock(utc(23, 59, 58)));
+
+            // When / Then
+            assertEquals("31.12.2023", cachedClock.currentDate());
+            assertEquals("23:59:58", cachedClock.currentTime());
+            assertEquals("31.12.2023 23:59", cachedClock.currentDateTime());
+            assertEquals("2023.12.31 23:59", cachedClock.currentDateTimeDesc());
+            assertEquals("31.12.2023 23:59:58", cachedClock.currentDateTimeSeconds());
+            assertEquals("2023.12.31 23:59:58", cachedClock.currentDateTimeSecondsDesc());
+        }
+
+        @Test
+        @DisplayName("Should reuse rendered strings within the same second")
+        void shouldReuseRenderedStringsWithinSameSecond() {
+            // Given
+            var clock = new ManualClock(utc(10, 15, 30));
+            var cachedClock = new FSCachedClock(clock);
+            var first = cachedClock.currentTime();
+
+            // When
+            clock.advanceMillis(999);
+            var second = cachedClock.currentTime();
+
+            // Then
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("Should refresh seconds and minutes at their boundaries")
+        void shouldRefreshSecondsAndMinutesAtTheirBoundaries() {
+            // Given
+            var clock = new ManualClock(utc(10, 15, 59));
+            var cachedClock = new FSCachedClock(clock);
+            var minuteBefore = cachedClock.currentDateTime();
+            cachedClock.currentTime();
+
+            // When
+            clock.advanceMillis(1000);
+
+            // Then
+            assertEquals("10:16:00", cachedClock.currentTime());
+            assertEquals("31.12.2023 10:16", cachedClock.currentDateTime());
+            assertNotEquals(minuteBefore, cachedClock.currentDateTime());
+        }
+    }
+
+    @Nested
+    @DisplayName("FSDateUtils integration tests")
+    class FSDateUtilsIntegrationTests {
+
+        @AfterEach
+        void disableCachedClock() {
+            FSDateUtils.disableCachedClock();
+        }
+
+        @Test
+        @DisplayName("Should serve getCurrent methods from the cached clock when enabled")
+        void shouldServeGetCurrentMethodsFromCachedClockWhenEnabled() {
+            // Given
+            FSDateUtils.enableCachedClock(Clock.fixed(utc(8, 5, 3), ZoneOffset.UTC));
+
+            // When / Then
+            assertEquals("31.12.2023", FSDateUtils.getCurrentDate());
+            assertEquals("08:05:03", FSDateUtils.getCurrentTime());
+            assertEquals("31.12.2023 08:05", FSDateUtils.getCurrentDateTime());
+            assertEquals("2023.12.31 08:05:03", FSDateUtils.getCurrentDateTimeSecondsDesc());
+        }
+
+        @Test
+        @DisplayName("Should go back to the live clock when disabled")
+        void shouldGoBackToLiveClockWhenDisabled() {
+            // Given
+            FSDateUtils.enableCachedClock(Clock.fixed(utc(8, 5, 3), ZoneOffset.UTC));
+
+            // When
+            FSDateUtils.disableCachedClock();
+
+            // Then
+            assertNull(FSDateUtils.getCachedClock());
+            assertNotEquals("31.12.2023", FSDateUtils.getCurrentDate());
+        }
+    }
+}
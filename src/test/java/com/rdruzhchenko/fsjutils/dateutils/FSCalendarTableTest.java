@@ -0,0 +1,75 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSCalendarTable;
+import com.rdruzhchenko.fsjutils.date.FSEpochDayUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSCalendarTable")
+class FSCalendarTableTest {
+
+    @Nested
+    @DisplayName("Lookup tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should match YearMonth for every month of the range")
+        void shouldMatchYearMonthForEveryMonthOfTheRange() {
+            for (int year = FSCalendarTable.FIRST_YEAR; year <= FSCalendarTable.LAST_YEAR; year++) {
+                for (int month = 1; month <= 12; month++) {
+                    // Given
+                    var yearMonth = YearMonth.of(year, month);
+
+                    // When
+                    int firstDay = FSCalendarTable.firstDayOfMonth(year, month);
+                    int length = FSCalendarTable.lengthOfMonth(year, month);
+
+                    // Then
+                    assertEquals(yearMonth.atDay(1).toEpochDay(), firstDay, yearMonth.toString());
+                    assertEquals(yearMonth.lengthOfMonth(), length, yearMonth.toString());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should decode every day of the range and its borders like LocalDate")
+        void shouldDecodeEveryDayOfTheRangeAndItsBordersLikeLocalDate() {
+            // Given
+            int from = (int) LocalDate.of(FSCalendarTable.FIRST_YEAR, 1, 1).toEpochDay() - 400;
+            int to = (int) LocalDate.of(FSCalendarTable.LAST_YEAR, 12, 31).toEpochDay() + 400;
+
+            for (int epochDay = from; epochDay <= to; epochDay++) {
+                var date = LocalDate.ofEpochDay(epochDay);
+
+                // When
+                int year = FSEpochDayUtils.year(epochDay);
+                int month = FSEpochDayUtils.month(epochDay);
+                int day = FSEpochDayUtils.dayOfMonth(epochDay);
+
+                // Then
+                assertEquals(date.getYear(), year);
+                assertEquals(date.getMonthValue(), month);
+                assertEquals(date.getDayOfMonth(), day);
+                assertEquals(epochDay, FSEpochDayUtils.of(year, month, day));
+                assertEquals(date.getYear() >= FSCalendarTable.FIRST_YEAR && date.getYear() <= FSCalendarTable.LAST_YEAR,
+                    FSCalendarTable.coversEpochDay(epochDay));
+            }
+        }
+
+        @Test
+        @DisplayName("Should compute month lengths outside the range and reject invalid months")
+        void shouldComputeMonthLengthsOutsideTheRangeAndRejectInvalidMonths() {
+            assertEquals(29, FSCalendarTable.lengthOfMonth(2400, 2));
+            assertEquals(28, FSCalendarTable.lengthOfMonth(1800, 2));
+            assertThrows(IllegalArgumentException.class, () -> FSCalendarTable.lengthOfMonth(2000, 13));
+            assertThrows(IllegalArgumentException.class, () -> FSCalendarTable.firstDayOfMonth(2101, 1));
+            assertThrows(IllegalArgumentException.class, () -> FSCalendarTable.firstDayOfMonth(2000, 0));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSCsvDateNormalizer;
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSCsvDateNormalizer")
+class FSCsvDateNormalizerTest {
+
+    @TempDir
+    Path dir;
+
+    private String normalize(FSCsvDateNormalizer normalizer, String content, boolean toPostgres) throws IOException {
+        var in = dir.resolve("in.csv");
+        var out = dir.resolve("out.csv");
+        Files.writeString(in, content, StandardCharsets.UTF_8);
+        if (toPostgres) {
+            normalizer.normalizeToPostgres(in, out);
+        } else {
+            normalizer.normalize(in, out);
+        }
+        return Files.readString(out, StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Rewrite tests")
+    class RewriteTests {
+
+        @Test
+        @DisplayName("Should rewrite mixed formats in the selected columns only")
+        void shouldRewriteMixedFormatsInSelectedColumnsOnly() throws IOException {
+            // Given
+            var normalizer = new FSCsvDateNormalizer(';', 1, 3);
+            var input = "id;from;note;to\n1;5.3.2023;5.3.2023;03.2024\n2;2023;x;31.12.2023\n";
+
+            // When
+            var output = normalize(normalizer, input, false);
+
+            // Then
+            assertEquals("id;from;note;to\n1;05.03.2023;5.3.2023;01.03.2024\n2;01.01.2023;x;31.12.2023\n", output);
+        }
+
+        @Test
+        @DisplayName("Should copy empty, unparseable and missing cells and count the unparseable ones")
+        void shouldCopyEmptyUnparseableAndMissingCellsAndCountUnparseableOnes() throws IOException {
+            // Given
+            var normalizer = new FSCsvDateNormalizer(';', 1);
+            var in = dir.resolve("in.csv");
+            var out = dir.resolve("out.csv");
+            Files.writeString(in, "id;date;name\r\n1;31.12.2023;a\r\n2;;b\r\n3;2.2023;c\r\n4\r\n5;n/a;d");
+
+            // When
+            var unconverted = normalizer.normalize(in, out);
+
+            // Then
+            assertEquals("id;date;name\r\n1;31.12.2023;a\r\n2;;b\r\n3;01.02.2023;c\r\n4\r\n5;n/a;d", Files.readString(out));
+            assertEquals(2, unconverted);
+        }
+
+        @Test
+        @DisplayName("Should rewrite to PostgreSQL format")
+        void shouldRewriteToPostgresFormat() throws IOException {
+            // Given
+            var normalizer = new FSCsvDateNormalizer(',', 0);
+
+            // When
+            var output = normalize(normalizer, "29.02.2024,a\n7.2024,b\n1999,c\n", true);
+
+            // Then
+            assertEquals("2024-02-29,a\n2024-07-01,b\n1999-01-01,c\n", output);
+        }
+
+        @Test
+        @DisplayName("Should keep non-ASCII bytes outside the date columns intact")
+        void shouldKeepNonAsciiBytesOutsideDateColumnsIntact() throws IOException {
+            // Given
+            var normalizer = new FSCsvDateNormalizer(';', 1);
+
+            // When
+            var output = normalize(normalizer, "Іваненко;1.2.2023;Київ\n", false);
+
+            // Then
+            assertEquals("Іваненко;01.02.2023;Київ\n", output);
+        }
+
+        @Test
+        @DisplayName("Should create an empty file from an empty file")
+        void shouldCreateEmptyFileFromEmptyFile() throws IOException {
+            // Given
+            var normalizer = new FSCsvDateNormalizer(';', 0);
+
+            // When
+            var output = normalize(normalizer, "", false);
+
+            // Then
+            assertEquals("", output);
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunking tests")
+    class ChunkingTests {
+
+        @Test
+        @DisplayName("Should produce the same output as FSDateUtils for any chunk size")
+        void shouldProduceSameOutputAsDateUtilsForAnyChunkSize() throws IOException {
+            // Given
+            var random = new Random(7);
+            var input = new StringBuilder();
+            var expected = new StringBuilder();
+            for (int i = 0; i < 2_000; i++) {
+                int day = 1 + random.nextInt(28);
+                int month = 1 + random.nextInt(12);
+                int year = 1950 + random.nextInt(100);
+                var date = switch (random.nextInt(4)) {
+                    case 0 -> String.format("%02d.%02d.%d", day, month, year);
+                    case 1 -> day + "." + month + "." + year;
+                    case 2 -> String.format("%02d.%d", month, year);
+                    default -> Integer.toString(year);
+                };
+                input.append(i).append(';').append(date).append(";row ").append(i).append('\n');
+                expected.append(i).append(';').append(FSDateUtils.dateToString(FSDateUtils.dateFromString(date)))
+                    .append(";row ").append(i).append('\n');
+            }
+
+            for (int chunkSize : new int[]{1, 17, 1024, FSCsvDateNormalizer.DEFAULT_CHUNK_SIZE}) {
+                // When
+                var output = normalize(new FSCsvDateNormalizer(';', new int[]{1}, chunkSize), input.toString(), false);
+
+                // Then
+                assertEquals(expected.toString(), output, "Chunk size " + chunkSize);
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle a last line without a line feed across chunks")
+        void shouldHandleLastLineWithoutLineFeedAcrossChunks() throws IOException {
+            // Given
+            var normalizer = new FSCsvDateNormalizer(';', new int[]{0}, 8);
+
+            // When
+            var output = normalize(normalizer, "1.1.2000;a\n2.1.2000;b\n3.1.2000", false);
+
+            // Then
+            assertEquals("01.01.2000;a\n02.01.2000;b\n03.01.2000", output);
+        }
+    }
+
+    @Nested
+    @DisplayName("Argument tests")
+    class ArgumentTests {
+
+        @Test
+        @DisplayName("Should reject invalid configurations")
+        void shouldRejectInvalidConfigurations() {
+            assertThrows(IllegalArgumentException.class, () -> new FSCsvDateNormalizer(';'));
+            assertThrows(IllegalArgumentException.class, () -> new FSCsvDateNormalizer(';', -1));
+            assertThrows(IllegalArgumentException.class, () -> new FSCsvDateNormalizer('\n', 0));
+            assertThrows(IllegalArgumentException.class, () -> new FSCsvDateNormalizer('є', 0));
+            assertThrows(IllegalArgumentException.class, () -> new FSCsvDateNormalizer(';', new int[]{0}, 0));
+        }
+
+        @Test
+        @DisplayName("Should reject rewriting a file into itself")
+        void shouldRejectRewritingFileIntoItself() throws IOException {
+            // Given
+            var normalizer = new FSCsvDateNormalizer(';', 0);
+            var file = dir.resolve("same.csv");
+            Files.writeString(file, "1.1.2000\n");
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> normalizer.normalize(file, file));
+            assertEquals("1.1.2000\n", Files.readString(file));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateColumnUtils;
+import com.rdruzhchenko.fsjutils.date.FSDateParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSDateColumnUtils")
+class FSDateColumnUtilsTest {
+
+    @Nested
+    @DisplayName("Sequential parsing tests")
+    class SequentialParsingTests {
+
+        @Test
+        @DisplayName("Should parse valid cells and flag invalid ones")
+        void shouldParseValidCellsAndFlagInvalidOnes() {
+            // Given
+            var values = List.of("31.12.2023", "bad", "12.2023", "", "2023");
+
+            // When
+            var column = FSDateColumnUtils.parse(values);
+
+            // Then
+            assertEquals(5, column.size());
+            assertEquals(2, column.invalidCount());
+            assertEquals(LocalDate.of(2023, 12, 31).toEpochDay(), column.epochDay(0));
+            assertFalse(column.isValid(1));
+            assertEquals(FSDateParser.INVALID, column.epochDay(1));
+            assertEquals(LocalDate.of(2023, 12, 1).toEpochDay(), column.epochDay(2));
+            assertEquals(LocalDate.of(2023, 1, 1).toEpochDay(), column.epochDay(4));
+            assertEquals(1, column.nextInvalidRow(0));
+            assertEquals(3, column.nextInvalidRow(2));
+            assertEquals(-1, column.nextInvalidRow(4));
+        }
+
+        @Test
+        @DisplayName("Should treat null cells as invalid")
+        void shouldTreatNullCellsAsInvalid() {
+            // Given
+            var values = new String[]{null, "01.01.2024"};
+
+            // When
+            var column = FSDateColumnUtils.parse(values);
+
+            // Then
+            assertFalse(column.isValid(0));
+            assertTrue(column.isValid(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel parsing tests")
+    class ParallelParsingTests {
+
+        @Test
+        @DisplayName("Should produce the same result as sequential parsing for a large column")
+        void shouldProduceSameResultAsSequentialParsingForLargeColumn() {
+            // Given
+            var values = new String[100_003];
+            var date = LocalDate.of(2000, 1, 1);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = i % 97 == 0 ? "n/a" : String.format("%02d.%02d.%04d",
+                    date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+                date = date.plusDays(1);
+            }
+
+            // When
+            var sequential = FSDateColumnUtils.parse(values);
+            var parallel = FSDateColumnUtils.parseParallel(values);
+
+            // Then
+            assertArrayEquals(sequential.epochDays(), parallel.epochDays());
+            assertArrayEquals(sequential.validityBitmap(), parallel.validityBitmap());
+            assertEquals((values.length + 96) / 97, parallel.invalidCount());
+            assertEquals(Arrays.asList(values).indexOf("n/a"), parallel.nextInvalidRow(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Week bucket tests")
+    class WeekBucketTests {
+
+        @Test
+        @DisplayName("Should group rows by ISO week starting from the earliest week")
+        void shouldGroupRowsByIsoWeekStartingFromEarliestWeek() {
+            // Given
+            var column = FSDateColumnUtils.parse(new String[]{
+                "06.03.2022", "28.02.2022", "bad", "27.02.2022", "14.03.2022"});
+
+            // When
+            var buckets = FSDateColumnUtils.bucketByWeek(column);
+
+            // Then
+            assertEquals(4, buckets.bucketCount());
+            assertArrayEquals(new int[]{1, 1, -1, 0, 3}, buckets.buckets());
+            assertArrayEquals(new int[]{1, 2, 0, 1}, buckets.counts());
+            assertEquals(LocalDate.of(2022, 2, 21).toEpochDay(), buckets.weekStart(0));
+            assertEquals(LocalDate.of(2022, 3, 14).toEpochDay(), buckets.weekStart(3));
+        }
+
+        @Test
+        @DisplayName("Should keep invalid markers when mapping to week indexes")
+        void shouldKeepInvalidMarkersWhenMappingToWeekIndexes() {
+            // Given
+            var epochDays = new int[]{0, FSDateParser.INVALID, 3, 4};
+
+            // When
+            var weeks = FSDateColumnUtils.weekIndexes(epochDays);
+
+            // Then
+            assertArrayEquals(new int[]{0, FSDateParser.INVALID, 0, 1}, weeks);
+        }
+
+        @Test
+        @DisplayName("Should reject a column whose outlier row spans too many weeks")
+        void shouldRejectColumnWhoseOutlierRowSpansTooManyWeeks() {
+            // Given
+            var column = FSDateColumnUtils.parse(new String[]{"01.01.2023", "01.01.5000000"});
+
+            // When / Then
+            assertTrue(column.isValid(1));
+            assertThrows(IllegalArgumentException.class, () -> FSDateColumnUtils.bucketByWeek(column));
+        }
+
+        @Test
+        @DisplayName("Should return no buckets when every row is invalid")
+        void shouldReturnNoBucketsWhenEveryRowIsInvalid() {
+            // Given
+            var column = FSDateColumnUtils.parse(new String[]{"bad", null});
+
+            // When
+            var buckets = FSDateColumnUtils.bucketByWeek(column);
+
+            // Then
+            assertEquals(0, buckets.bucketCount());
+            assertArrayEquals(new int[]{-1, -1}, buckets.buckets());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateComparators;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSDateComparators")
+class FSDateComparatorsTest {
+
+    @Nested
+    @DisplayName("Date comparison tests")
+    class DateComparisonTests {
+
+        @Test
+        @DisplayName("Should compare canonical dates by year, month and day")
+        void shouldCompareCanonicalDatesByYearMonthAndDay() {
+            // When / Then
+            assertEquals(-1, FSDateComparators.compareDates("31.12.2022", "01.01.2023"));
+            assertEquals(1, FSDateComparators.compareDates("01.02.2023", "31.01.2023"));
+            assertEquals(0, FSDateComparators.compareDates("15.06.2023", "15.06.2023"));
+        }
+
+        @Test
+        @DisplayName("Should fall back to lenient parsing for non-canonical dates")
+        void shouldFallBackToLenientParsingForNonCanonicalDates() {
+            // When / Then
+            assertFalse(FSDateComparators.isCanonicalDate("32.01.2023"));
+            assertEquals(0, FSDateComparators.compareDates("32.01.2023", "01.02.2023"));
+            assertEquals(0, FSDateComparators.compareDates("1.2.2023", "01.02.2023"));
+            assertEquals(-1, FSDateComparators.compareDates("12.2023", "02.12.2023"));
+        }
+
+        @Test
+        @DisplayName("Should throw FSDateException for an unparseable date")
+        void shouldThrowFSDateExceptionForUnparseableDate() {
+            // When / Then
+            assertThrows(FSDateException.class, () -> FSDateComparators.compareDates("no date", "01.01.2023"));
+        }
+
+        @Test
+        @DisplayName("Should sort dates chronologically")
+        void shouldSortDatesChronologically() {
+            // Given
+            var random = new Random(42);
+            var expected = new ArrayList<LocalDate>();
+            for (int i = 0; i < 1000; i++) {
+                expected.add(LocalDate.ofEpochDay(random.nextInt(40_000)));
+            }
+            var strings = new ArrayList<String>();
+            for (var date : expected) {
+                strings.add(String.format("%02d.%02d.%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear()));
+            }
+            Collections.sort(expected);
+
+            // When
+            strings.sort(FSDateComparators.DATE_ORDER);
+
+            // Then
+            for (int i = 0; i < expected.size(); i++) {
+                var date = expected.get(i);
+                assertEquals(String.format("%02d.%02d.%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear()), strings.get(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Date-time comparison tests")
+    class DateTimeComparisonTests {
+
+        @Test
+        @DisplayName("Should compare canonical date-times down to the second")
+        void shouldCompareCanonicalDateTimesDownToTheSecond() {
+            // When / Then
+            assertEquals(-1, FSDateComparators.compareDateTimes("27.04.2024 14:46:29", "27.04.2024 14:46:30"));
+            assertEquals(1, FSDateComparators.compareDateTimes("28.04.2024 00:00:00", "27.04.2024 23:59:59"));
+            assertEquals(0, FSDateComparators.compareDateTimes("27.04.2024 14:46:29", "27.04.2024 14:46:29"));
+        }
+
+        @Test
+        @DisplayName("Should fall back to lenient parsing for non-canonical date-times")
+        void shouldFallBackToLenientParsingForNonCanonicalDateTimes() {
+            // When / Then
+            assertFalse(FSDateComparators.isCanonicalDateTime("27.04.2024 24:00:00"));
+            assertEquals(0, FSDateComparators.compareDateTimes("27.04.2024 24:00:00", "28.04.2024 00:00:00"));
+            assertEquals(-1, FSDateComparators.DATE_TIME_ORDER.compare("27.04.2024 9:05:00", "27.04.2024 10:00:00"));
+        }
+
+        @Test
+        @DisplayName("Should throw FSDateException for an unparseable date-time")
+        void shouldThrowFSDateExceptionForUnparseableDateTime() {
+            // When / Then
+            assertThrows(FSDateException.class, () -> FSDateComparators.compareDateTimes("27.04.2024", "27.04.2024 10:00:00"));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateFormatters;
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSDateFormatters")
+class FSDateFormattersTest {
+
+    @Nested
+    @DisplayName("Registry tests")
+    class RegistryTests {
+
+        @Test
+        @DisplayName("Should return the pre-built formatter for a library pattern")
+        void shouldReturnPreBuiltFormatterForLibraryPattern() {
+            // Given
+            var pattern = FSDateUtils.DATE_FORMAT_LONG;
+
+            // When
+            var formatter = FSDateFormatters.get(pattern);
+
+            // Then
+            assertSame(FSDateFormatters.DATE_LONG, formatter);
+        }
+
+        @Test
+        @DisplayName("Should compile a user pattern only once")
+        void shouldCompileUserPatternOnlyOnce() {
+            // Given
+            var pattern = "dd/MM/yyyy";
+
+            // When
+            var first = FSDateFormatters.get(pattern);
+            var second = FSDateFormatters.register(pattern);
+
+            // Then
+            assertSame(first, second);
+            assertTrue(FSDateFormatters.isRegistered(pattern));
+            assertEquals("31/12/2023", first.format(LocalDate.of(2023, 12, 31)));
+        }
+
+        @Test
+        @DisplayName("Should throw FSDateException for an invalid pattern")
+        void shouldThrowFSDateExceptionForInvalidPattern() {
+            // Given
+            var pattern = "dd.MM.yyyy {";
+
+            // When / Then
+            assertThrows(FSDateException.class, () -> FSDateFormatters.register(pattern));
+            assertFalse(FSDateFormatters.isRegistered(pattern));
+        }
+    }
+
+    @Nested
+    @DisplayName("FSDateUtils parsing compatibility tests")
+    class ParsingCompatibilityTests {
+
+        @Test
+        @DisplayName("Should accept single digit day and month")
+        void shouldAcceptSingleDigitDayAndMonth() {
+            // Given
+            var date = "1.2.2023";
+
+            // When
+            var result = FSDateUtils.dateToString(FSDateUtils.dateFromString(date));
+
+            // Then
+            assertEquals("01.02.2023", result);
+        }
+
+        @Test
+        @DisplayName("Should roll over an overflowing day")
+        void shouldRollOverOverflowingDay() {
+            // Given
+            var date = "32.01.2023";
+
+            // When
+            var result = FSDateUtils.dateToString(FSDateUtils.dateFromString(date));
+
+            // Then
+            assertEquals("01.02.2023", result);
+        }
+
+        @Test
+        @DisplayName("Should parse month and year formats")
+        void shouldParseMonthAndYearFormats() {
+            // Given
+            var middle = "12.2023";
+            var shortDate = "2023";
+
+            // When
+            var middleResult = FSDateUtils.dateToString(FSDateUtils.dateFromString(middle));
+            var shortResult = FSDateUtils.dateToString(FSDateUtils.dateFromString(shortDate));
+
+            // Then
+            assertEquals("01.12.2023", middleResult);
+            assertEquals("01.01.2023", shortResult);
+        }
+
+        @Test
+        @DisplayName("Should convert between standard and PostgreSQL formats")
+        void shouldConvertBetweenStandardAndPostgresFormats() {
+            // Given
+            var date = "31.12.2023";
+
+            // When
+            var postgres = FSDateUtils.stringToPostgres(date);
+            var back = FSDateUtils.postgresToString(postgres);
+
+            // Then
+            assertEquals("2023-12-31", postgres);
+            assertEquals(date, back);
+        }
+
+        @Test
+        @DisplayName("Should throw FSDateException when date string is not a date")
+        void shouldThrowFSDateExceptionWhenDateStringIsNotADate() {
+            // Given
+            var date = "no date";
+
+            // When / Then
+            assertThrows(FSDateException.class, () -> FSDateUtils.dateFromString(date));
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateParseCache;
+import com.rdruzhchenko.fsjutils.date.FSDateParser;
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSEpochDayUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSDateParseCache")
+class FSDateParseCacheTest {
+
+    @Nested
+    @DisplayName("Caching tests")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should answer repeated strings from the cache, including invalid ones")
+        void shouldAnswerRepeatedStringsFromTheCacheIncludingInvalidOnes() {
+            // Given
+            var parses = new AtomicInteger();
+            var cache = new FSDateParseCache(16, text -> {
+                parses.incrementAndGet();
+                return FSDateParser.parseEpochDay(text);
+            });
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                assertEquals(FSDateParser.parseEpochDay("15.03.2024"), cache.parseEpochDay("15.03.2024"));
+                assertEquals(FSDateParser.INVALID, cache.parseEpochDay("abc"));
+            }
+
+            // Then
+            assertEquals(2, parses.get());
+            assertEquals(198, cache.getHitCount());
+            assertEquals(2, cache.getMissCount());
+            assertEquals(2, cache.size());
+            assertEquals(FSDateParser.INVALID, cache.parseEpochDay(null));
+        }
+
+        @Test
+        @DisplayName("Should stay bounded and keep the hot set during a scan")
+        void shouldStayBoundedAndKeepTheHotSetDuringAScan() {
+            // Given
+            var cache = new FSDateParseCache(64);
+            var base = FSDateParser.parseEpochDay("01.01.2024");
+            for (int round = 0; round < 10; round++) {
+                for (int day = 0; day < 32; day++) {
+                    cache.parseEpochDay(FSEpochDayUtils.format(base + day));
+                }
+            }
+
+            // When
+            for (int day = 1000; day < 1500; day++) {
+                cache.parseEpochDay(FSEpochDayUtils.format(base + day));
+            }
+            long hitsBefore = cache.getHitCount();
+            for (int day = 0; day < 32; day++) {
+                cache.parseEpochDay(FSEpochDayUtils.format(base + day));
+            }
+
+            // Then
+            assertTrue(cache.size() <= 64);
+            assertTrue(cache.getEvictionCount() > 0);
+            assertEquals(32, cache.getHitCount() - hitsBefore);
+        }
+
+        @Test
+        @DisplayName("Should keep a hot set warmed up by hits from many threads during a scan")
+        void shouldKeepHotSetWarmedUpByHitsFromManyThreadsDuringAScan() {
+            // Given
+            var cache = new FSDateParseCache(64);
+            var base = FSDateParser.parseEpochDay("01.01.2024");
+            for (int day = 0; day < 32; day++) {
+                cache.parseEpochDay(FSEpochDayUtils.format(base + day));
+            }
+            IntStream.range(0, 32 * 1000).parallel()
+                .forEach(i -> cache.parseEpochDay(FSEpochDayUtils.format(base + i % 32)));
+
+            // When
+            for (int day = 1000; day < 1500; day++) {
+                cache.parseEpochDay(FSEpochDayUtils.format(base + day));
+            }
+            long hitsBefore = cache.getHitCount();
+            for (int day = 0; day < 32; day++) {
+                cache.parseEpochDay(FSEpochDayUtils.format(base + day));
+            }
+
+            // Then
+            assertEquals(32, cache.getHitCount() - hitsBefore);
+        }
+
+        @Test
+        @DisplayName("Should return correct results under concurrent access")
+        void shouldReturnCorrectResultsUnderConcurrentAccess() {
+            // Given
+            var cache = new FSDateParseCache(100);
+            var base = FSDateParser.parseEpochDay("01.01.2000");
+
+            // When
+            long wrong = IntStream.range(0, 200_000).parallel()
+                .filter(i -> cache.parseEpochDay(FSEpochDayUtils.format(base + i % 500)) != base + i % 500)
+                .count();
+
+            // Then
+            assertEquals(0, wrong);
+            assertTrue(cache.size() <= 100);
+            assertEquals(200_000, cache.getHitCount() + cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid configuration")
+        void shouldRejectInvalidConfiguration() {
+            assertThrows(IllegalArgumentException.class, () -> new FSDateParseCache(0));
+            assertThrows(IllegalArgumentException.class, () -> new FSDateParseCache(10, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Global hook tests")
+    class GlobalHookTests {
+
+        @AfterEach
+        void disableParseCache() {
+            FSDateUtils.disableParseCache();
+        }
+
+        @Test
+        @DisplayName("Should route FSDateUtils parsing through the enabled cache")
+        void shouldRouteFSDateUtilsParsingThroughTheEnabledCache() {
+            // Given
+            FSDateUtils.enableParseCache(32);
+
+            // When
+            var date = FSDateUtils.dateFromString("15.03.2024");
+            boolean valid = FSDateUtils.isValidDate("15.03.2024");
+            boolean invalid = FSDateUtils.isValidDate("abc");
+
+            // Then
+            var cache = FSDateUtils.getParseCache();
+            assertEquals("15.03.2024", FSDateUtils.dateToString(date));
+            assertTrue(valid);
+            assertFalse(invalid);
+            assertEquals(1, cache.getHitCount());
+            assertEquals(2, cache.getMissCount());
+        }
+
+        @Test
+        @DisplayName("Should stop using the cache when disabled")
+        void shouldStopUsingTheCacheWhenDisabled() {
+            // Given
+            var cache = new FSDateParseCache(32);
+            FSDateUtils.enableParseCache(cache);
+
+            // When
+            FSDateUtils.disableParseCache();
+            FSDateUtils.isValidDate("15.03.2024");
+
+            // Then
+            assertNull(FSDateUtils.getParseCache());
+            assertEquals(0, cache.getMissCount());
+            assertThrows(IllegalArgumentException.class, () -> FSDateUtils.enableParseCache(null));
+        }
+    }
+}
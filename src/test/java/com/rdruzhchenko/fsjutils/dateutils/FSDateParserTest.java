@@ -0,0 +1,263 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateParser;
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSDateParser")
+class FSDateParserTest {
+
+    @Nested
+    @DisplayName("Format detection tests")
+    class FormatDetectionTests {
+
+        @Test
+        @DisplayName("Should parse long format")
+        void shouldParseLongFormat() {
+            // Given
+            var date = "31.12.2023";
+
+            // When
+            var result = FSDateParser.parseLocalDate(date);
+
+            // Then
+            assertEquals(LocalDate.of(2023, 12, 31), result);
+        }
+
+        @Test
+        @DisplayName("Should parse middle format as first day of month")
+        void shouldParseMiddleFormatAsFirstDayOfMonth() {
+            // Given
+            var date = "02.2024";
+
+            // When
+            var result = FSDateParser.parseLocalDate(date);
+
+            // Then
+            assertEquals(LocalDate.of(2024, 2, 1), result);
+        }
+
+        @Test
+        @DisplayName("Should parse short format as first day of year")
+        void shouldParseShortFormatAsFirstDayOfYear() {
+            // Given
+            var date = "1999";
+
+            // When
+            var result = FSDateParser.parseLocalDate(date);
+
+            // Then
+            assertEquals(LocalDate.of(1999, 1, 1), result);
+        }
+
+        @Test
+        @DisplayName("Should return epoch day matching LocalDate for every day of a leap year")
+        void shouldReturnEpochDayMatchingLocalDateForEveryDayOfLeapYear() {
+            // Given
+            var date = LocalDate.of(2024, 1, 1);
+
+            while (date.getYear() == 2024) {
+                var text = String.format("%02d.%02d.%04d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+
+                // When
+                var result = FSDateParser.parseEpochDay(text);
+
+                // Then
+                assertEquals(date.toEpochDay(), result, text);
+                date = date.plusDays(1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Leniency tests")
+    class LeniencyTests {
+
+        @Test
+        @DisplayName("Should roll over overflowing month into next year")
+        void shouldRollOverOverflowingMonthIntoNextYear() {
+            // Given
+            var date = "15.13.2023";
+
+            // When
+            var result = FSDateParser.parseLocalDate(date);
+
+            // Then
+            assertEquals(LocalDate.of(2024, 1, 15), result);
+        }
+
+        @Test
+        @DisplayName("Should treat day zero as last day of previous month")
+        void shouldTreatDayZeroAsLastDayOfPreviousMonth() {
+            // Given
+            var date = "00.03.2024";
+
+            // When
+            var result = FSDateParser.parseLocalDate(date);
+
+            // Then
+            assertEquals(LocalDate.of(2024, 2, 29), result);
+        }
+
+        @Test
+        @DisplayName("Should skip spaces before fields and ignore trailing text")
+        void shouldSkipSpacesBeforeFieldsAndIgnoreTrailingText() {
+            // Given
+            var date = " 22. 06.2022,";
+
+            // When
+            var result = FSDateParser.parseLocalDate(date);
+
+            // Then
+            assertEquals(LocalDate.of(2022, 6, 22), result);
+        }
+
+        @Test
+        @DisplayName("Should accept a minus sign right before the digits of a field like SimpleDateFormat")
+        void shouldAcceptMinusSignRightBeforeDigitsOfFieldLikeSimpleDateFormat() {
+            // When / Then
+            assertEquals(LocalDate.of(2022, 12, 30), FSDateParser.parseLocalDate("-1.01.2023"));
+            assertEquals(LocalDate.of(2022, 12, 30), FSDateParser.parseLocalDate(" -1.01.2023"));
+            assertEquals(LocalDate.of(2022, 11, 1), FSDateParser.parseLocalDate("01.-1.2023"));
+            assertEquals(LocalDate.of(-5, 1, 1), FSDateParser.parseLocalDate("01.01.-5"));
+            assertEquals(LocalDate.of(2022, 9, 1), FSDateParser.parseLocalDate("-3.2023"));
+            assertEquals(LocalDate.of(-2023, 1, 1), FSDateParser.parseLocalDate("-2023"));
+            assertEquals(LocalDate.of(-2, 10, 30), FSDateParser.parseLocalDate("-1.-1.-1"));
+            assertEquals(FSDateParser.parseEpochDay("-1.01.2023"),
+                FSDateParser.parseEpochDay("-1.01.2023".getBytes(StandardCharsets.US_ASCII), 0, 10));
+            assertNull(FSDateParser.parseLocalDate("- 1.01.2023"));
+            assertNull(FSDateParser.parseLocalDate("--1.01.2023"));
+            assertNull(FSDateParser.parseLocalDate("+1.01.2023"));
+            assertEquals("30.12.2022", FSDateUtils.dateToString(FSDateUtils.dateFromString("-1.01.2023")));
+            assertTrue(FSDateUtils.isValidDate("-1.01.2023"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid input tests")
+    class InvalidInputTests {
+
+        @Test
+        @DisplayName("Should return INVALID for null, empty and non-date strings")
+        void shouldReturnInvalidForNullEmptyAndNonDateStrings() {
+            // When / Then
+            assertEquals(FSDateParser.INVALID, FSDateParser.parseEpochDay(null));
+            assertEquals(FSDateParser.INVALID, FSDateParser.parseEpochDay(""));
+            assertEquals(FSDateParser.INVALID, FSDateParser.parseEpochDay("no date"));
+            assertEquals(FSDateParser.INVALID, FSDateParser.parseEpochDay(".12.2023"));
+        }
+
+        @Test
+        @DisplayName("Should return null LocalDate for invalid input")
+        void shouldReturnNullLocalDateForInvalidInput() {
+            // Given
+            var date = "abc";
+
+            // When
+            var result = FSDateParser.parseLocalDate(date);
+
+            // Then
+            assertNull(result);
+        }
+    }
+
+    @Nested
+    @DisplayName("Region parsing tests")
+    class RegionParsingTests {
+
+        private static final String LINE = "42;31.12.2023;2023-12-31;31.12.2023 23:59:58;x";
+
+        @Test
+        @DisplayName("Should parse fields of a line without extracting strings")
+        void shouldParseFieldsOfALineWithoutExtractingStrings() {
+            // Given
+            int expected = FSDateParser.parseEpochDay("31.12.2023");
+            long expectedSecond = LocalDateTime.of(2023, 12, 31, 23, 59, 58).toEpochSecond(ZoneOffset.UTC);
+
+            // When
+            int fromString = FSDateParser.parseEpochDay(LINE, 3, 13);
+            int postgres = FSDateParser.parsePostgresEpochDay(LINE, 14, 24);
+            long dateTime = FSDateParser.parseEpochSecond(LINE, 25, 44);
+            int fromChars = FSDateParser.parseEpochDay(CharBuffer.wrap(LINE.toCharArray()), 3, 13);
+
+            // Then
+            assertEquals(expected, fromString);
+            assertEquals(expected, postgres);
+            assertEquals(expectedSecond, dateTime);
+            assertEquals(expected, fromChars);
+        }
+
+        @Test
+        @DisplayName("Should parse ASCII bytes from arrays and direct buffers")
+        void shouldParseAsciiBytesFromArraysAndDirectBuffers() {
+            // Given
+            var bytes = LINE.getBytes(StandardCharsets.US_ASCII);
+            var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+            int expected = FSDateParser.parseEpochDay("31.12.2023");
+
+            // When
+            int fromArray = FSDateParser.parseEpochDay(bytes, 3, 10);
+            int postgres = FSDateParser.parsePostgresEpochDay(direct, 14, 10);
+            long dateTime = FSDateParser.parseEpochSecond(bytes, 25, 19);
+
+            // Then
+            assertEquals(expected, fromArray);
+            assertEquals(expected, postgres);
+            assertEquals(FSDateParser.parseEpochSecond("31.12.2023 23:59:58"), dateTime);
+            assertEquals(direct.capacity(), direct.position());
+        }
+
+        @Test
+        @DisplayName("Should not read past the end of the region")
+        void shouldNotReadPastTheEndOfTheRegion() {
+            // When
+            int truncated = FSDateParser.parseEpochDay(LINE, 3, 8);
+            int postgres = FSDateParser.parsePostgresEpochDay(LINE.getBytes(StandardCharsets.US_ASCII), 14, 7);
+
+            // Then
+            assertEquals(FSDateParser.parseEpochDay("31.12"), truncated);
+            assertEquals(FSDateParser.INVALID, postgres);
+        }
+
+        @Test
+        @DisplayName("Should reject non-ASCII bytes and out-of-bounds regions")
+        void shouldRejectNonAsciiBytesAndOutOfBoundsRegions() {
+            // Given
+            var bytes = "3¹.12.2023".getBytes(StandardCharsets.UTF_8);
+
+            // Then
+            assertEquals(FSDateParser.INVALID, FSDateParser.parseEpochDay(bytes, 1, bytes.length - 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> FSDateParser.parseEpochDay(bytes, 5, 20));
+            assertThrows(IndexOutOfBoundsException.class, () -> FSDateParser.parseEpochDay(LINE, 40, 50));
+        }
+
+        @Test
+        @DisplayName("Should keep seconds in epoch seconds and drop them in epoch minutes")
+        void shouldKeepSecondsInEpochSecondsAndDropThemInEpochMinutes() {
+            // Given
+            var text = "01.01.1970 00:01:59";
+
+            // When
+            long second = FSDateParser.parseEpochSecond(text);
+            long minute = FSDateParser.parseEpochMinute(text);
+
+            // Then
+            assertEquals(119, second);
+            assertEquals(1, minute);
+            assertEquals(60, FSDateParser.parseEpochSecond("01.01.1970 00:01:"));
+            assertEquals(FSDateParser.INVALID_SECOND, FSDateParser.parseEpochSecond("31.12"));
+            assertEquals(FSDateParser.INVALID_SECOND, FSDateParser.parseEpochSecond((String) null));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateTranscoder;
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSDateTranscoder")
+class FSDateTranscoderTest {
+
+    @Nested
+    @DisplayName("Single value tests")
+    class SingleValueTests {
+
+        @Test
+        @DisplayName("Should permute canonical dates in both directions")
+        void shouldPermuteCanonicalDatesInBothDirections() {
+            // Given
+            var postgres = new StringBuilder();
+            var standard = new StringBuilder();
+
+            // When
+            var toPostgres = FSDateTranscoder.toPostgres("29.02.2024", postgres);
+            var fromPostgres = FSDateTranscoder.fromPostgres(postgres, standard);
+
+            // Then
+            assertTrue(toPostgres);
+            assertTrue(fromPostgres);
+            assertEquals("2024-02-29", postgres.toString());
+            assertEquals("29.02.2024", standard.toString());
+        }
+
+        @Test
+        @DisplayName("Should write into a char array at the given positions")
+        void shouldWriteIntoCharArrayAtGivenPositions() {
+            // Given
+            var source = "id;31.12.2023;x";
+            var buffer = new char[12];
+
+            // When
+            var end = FSDateTranscoder.toPostgres(source, 3, buffer, 1);
+
+            // Then
+            assertEquals(11, end);
+            assertEquals("2023-12-31", new String(buffer, 1, 10));
+        }
+
+        @Test
+        @DisplayName("Should reject non-canonical dates without appending")
+        void shouldRejectNonCanonicalDatesWithoutAppending() {
+            // Given
+            var sb = new StringBuilder();
+
+            // When / Then
+            assertFalse(FSDateTranscoder.toPostgres("29.02.2023", sb));
+            assertFalse(FSDateTranscoder.toPostgres("1.2.2023", sb));
+            assertFalse(FSDateTranscoder.fromPostgres("2023-13-01", sb));
+            assertFalse(FSDateTranscoder.fromPostgres(null, sb));
+            assertEquals(-1, FSDateTranscoder.fromPostgres("2023-01-0", 0, new char[10], 0));
+            assertEquals(0, sb.length());
+        }
+
+        @Test
+        @DisplayName("Should keep FSDateUtils conversions lenient for non-canonical input")
+        void shouldKeepFSDateUtilsConversionsLenientForNonCanonicalInput() {
+            // When / Then
+            assertEquals("2023-02-01", FSDateUtils.stringToPostgres("1.2.2023"));
+            assertEquals("2023-02-01", FSDateUtils.stringToPostgres("32.01.2023"));
+            assertEquals("01.02.2023", FSDateUtils.postgresToString("2023-2-1"));
+            assertEquals("31.12.2023", FSDateUtils.postgresToString("2023-12-31"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Column streaming tests")
+    class ColumnStreamingTests {
+
+        @Test
+        @DisplayName("Should rewrite the date column and keep the header and other columns")
+        void shouldRewriteDateColumnAndKeepHeaderAndOtherColumns() throws IOException {
+            // Given
+            var input = "id;date;name\r\n1;31.12.2023;a\r\n2;;b\r\n3;1.2.2023;c\r\n4\r\n5;n/a;d";
+            var out = new StringWriter();
+
+            // When
+            var unconverted = FSDateTranscoder.columnToPostgres(new StringReader(input), out, ';', 1);
+
+            // Then
+            assertEquals("id;date;name\r\n1;2023-12-31;a\r\n2;;b\r\n3;2023-02-01;c\r\n4\r\n5;n/a;d", out.toString());
+            assertEquals(2, unconverted);
+        }
+
+        @Test
+        @DisplayName("Should convert the last column back from PostgreSQL format")
+        void shouldConvertLastColumnBackFromPostgresFormat() throws IOException {
+            // Given
+            var input = "a,2023-12-31\nb,2024-02-29\n";
+            var out = new StringWriter();
+
+            // When
+            var unconverted = FSDateTranscoder.columnFromPostgres(new StringReader(input), out, ',', 1);
+
+            // Then
+            assertEquals("a,31.12.2023\nb,29.02.2024\n", out.toString());
+            assertEquals(0, unconverted);
+        }
+
+        @Test
+        @DisplayName("Should handle lines longer than the internal buffer")
+        void shouldHandleLinesLongerThanInternalBuffer() throws IOException {
+            // Given
+            var padding = "x".repeat(100_000);
+            var input = padding + ";01.01.2000\n" + "y;02.01.2000";
+            var out = new StringWriter();
+
+            // When
+            FSDateTranscoder.columnToPostgres(new StringReader(input), out, ';', 1);
+
+            // Then
+            assertEquals(padding + ";2000-01-01\n" + "y;2000-01-02", out.toString());
+        }
+    }
+}
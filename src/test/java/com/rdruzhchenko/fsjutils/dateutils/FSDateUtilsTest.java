@@ -1,10 +1,14 @@
 package com.rdruzhchenko.fsjutils.dateutils;
 
 import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSDurationLabels;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("FSDateUtils")
@@ -485,4 +489,51 @@ class FSDateUtilsTest {
             assertEquals(1, result);
         }
     }
+
+    @Nested
+    @DisplayName("Duration formatting tests")
+    class DurationFormattingTests {
+
+        private static final long NANOS_PER_MILLI = 1_000_000L;
+
+        @Test
+        @DisplayName("Should format every unit with Ukrainian labels")
+        void shouldFormatEveryUnitWithUkrainianLabels() {
+            // Given
+            long millis = ((((1L * 24 + 2) * 60 + 3) * 60) + 4) * 1000 + 5;
+
+            // When
+            String result = FSDateUtils.formatDuration(millis * NANOS_PER_MILLI);
+
+            // Then
+            assertEquals("1 дн. 2 г. 3 хв. 4 сек. 5 мс.", result);
+        }
+
+        @Test
+        @DisplayName("Should skip zero units and report zero milliseconds for short durations")
+        void shouldSkipZeroUnitsAndReportZeroMillisecondsForShortDurations() {
+            // When / Then
+            assertEquals("2 хв.", FSDateUtils.formatDuration(120_000 * NANOS_PER_MILLI));
+            assertEquals("1 г. 7 мс.", FSDateUtils.formatDuration(3_600_007 * NANOS_PER_MILLI));
+            assertEquals("0 мс.", FSDateUtils.formatDuration(999_999));
+            assertEquals("0 мс.", FSDateUtils.formatDuration(-5 * NANOS_PER_MILLI));
+        }
+
+        @Test
+        @DisplayName("Should append English labels to a StringBuilder and a Writer")
+        void shouldAppendEnglishLabelsToStringBuilderAndWriter() throws IOException {
+            // Given
+            var sb = new StringBuilder("took ");
+            var writer = new StringWriter();
+            long nanos = 90_061_250 * NANOS_PER_MILLI;
+
+            // When
+            FSDateUtils.formatDuration(nanos, sb, FSDurationLabels.ENGLISH);
+            FSDateUtils.formatDuration(nanos, writer, FSDurationLabels.ENGLISH);
+
+            // Then
+            assertEquals("took 1 d 1 h 1 min 1 s 250 ms", sb.toString());
+            assertEquals("1 d 1 h 1 min 1 s 250 ms", writer.toString());
+        }
+    }
 }
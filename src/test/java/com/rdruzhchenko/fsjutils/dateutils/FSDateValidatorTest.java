@@ -0,0 +1,143 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSDateValidator")
+class FSDateValidatorTest {
+
+    private static final DateTimeFormatter STRICT =
+        DateTimeFormatter.ofPattern("dd.MM.uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private static boolean isStrictDate(String text) {
+        try {
+            LocalDate.parse(text, STRICT);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Nested
+    @DisplayName("Single date tests")
+    class SingleDateTests {
+
+        @Test
+        @DisplayName("Should match strict LocalDate parsing for every day of 1999-2001")
+        void shouldMatchStrictLocalDateParsingForEveryDayOf19992001() {
+            for (int year = 1999; year <= 2001; year++) {
+                for (int month = 0; month <= 13; month++) {
+                    for (int day = 0; day <= 32; day++) {
+                        // Given
+                        var text = String.format("%02d.%02d.%04d", day, month, year);
+
+                        // When
+                        boolean valid = FSDateValidator.isValid(ascii(text), 0);
+
+                        // Then
+                        assertEquals(isStrictDate(text), valid, text);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle leap days")
+        void shouldHandleLeapDays() {
+            assertTrue(FSDateValidator.isValid(ascii("29.02.2000"), 0));
+            assertTrue(FSDateValidator.isValid(ascii("29.02.2024"), 0));
+            assertFalse(FSDateValidator.isValid(ascii("29.02.1900"), 0));
+            assertFalse(FSDateValidator.isValid(ascii("29.02.2023"), 0));
+        }
+
+        @Test
+        @DisplayName("Should match strict LocalDate parsing for random corruptions")
+        void shouldMatchStrictLocalDateParsingForRandomCorruptions() {
+            // Given
+            var random = new Random(20);
+            var alphabet = "0123456789./:-a /¹";
+
+            for (int i = 0; i < 100_000; i++) {
+                var bytes = ascii("15.06.2024");
+                for (int k = random.nextInt(3); k > 0; k--) {
+                    bytes[random.nextInt(bytes.length)] = (byte) alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                var text = new String(bytes, StandardCharsets.ISO_8859_1);
+
+                // When
+                boolean valid = FSDateValidator.isValid(bytes, 0);
+
+                // Then
+                assertEquals(isStrictDate(text), valid, text);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk validation tests")
+    class BulkValidationTests {
+
+        @Test
+        @DisplayName("Should flag invalid rows of fixed-width records in arrays and buffers")
+        void shouldFlagInvalidRowsOfFixedWidthRecordsInArraysAndBuffers() {
+            // Given
+            var records = ascii("0001|31.12.2023\n0002|31.11.2023\n0003|1.1.2023  \n0004|01.01.2024\n");
+            var direct = ByteBuffer.allocateDirect(records.length).order(ByteOrder.BIG_ENDIAN).put(records);
+            var expected = new BitSet();
+            expected.set(1);
+            expected.set(2);
+
+            // When
+            var fromArray = FSDateValidator.validate(records, 5, 16, 4);
+            var fromBuffer = FSDateValidator.validate(direct, 5, 16, 4);
+
+            // Then
+            assertEquals(expected, fromArray);
+            assertEquals(expected, fromBuffer);
+        }
+
+        @Test
+        @DisplayName("Should flag fields of the wrong length")
+        void shouldFlagFieldsOfTheWrongLength() {
+            // Given
+            var line = ascii("31.12.2023;2023;01.02.2024");
+
+            // When
+            var invalid = FSDateValidator.validate(line, new int[] {0, 11, 16}, new int[] {10, 4, 10});
+
+            // Then
+            assertEquals(BitSet.valueOf(new long[] {0b010}), invalid);
+        }
+
+        @Test
+        @DisplayName("Should reject invalid layouts")
+        void shouldRejectInvalidLayouts() {
+            // Given
+            var records = ascii("31.12.2023");
+
+            // Then
+            assertTrue(FSDateValidator.validate(records, 0, 10, 0).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> FSDateValidator.validate(records, 0, 9, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> FSDateValidator.validate(records, 0, 10, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> FSDateValidator.isValid(records, 1));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSEpochDayUtils;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSEpochDayUtils")
+class FSEpochDayUtilsTest {
+
+    @Nested
+    @DisplayName("Parsing and formatting tests")
+    class ParsingAndFormattingTests {
+
+        @Test
+        @DisplayName("Should round-trip standard and PostgreSQL formats")
+        void shouldRoundTripStandardAndPostgresFormats() {
+            // Given
+            var epochDay = FSEpochDayUtils.parse("31.12.2023");
+
+            // When
+            var standard = FSEpochDayUtils.format(epochDay);
+            var postgres = FSEpochDayUtils.formatPostgres(epochDay);
+
+            // Then
+            assertEquals(LocalDate.of(2023, 12, 31).toEpochDay(), epochDay);
+            assertEquals("31.12.2023", standard);
+            assertEquals("2023-12-31", postgres);
+            assertEquals(epochDay, FSEpochDayUtils.parsePostgres(postgres));
+        }
+
+        @Test
+        @DisplayName("Should write into a caller supplied char array")
+        void shouldWriteIntoCallerSuppliedCharArray() {
+            // Given
+            var epochDay = FSEpochDayUtils.of(2024, 2, 29);
+            var buffer = new char[22];
+
+            // When
+            var end = FSEpochDayUtils.formatTo(epochDay, buffer, 1);
+            end = FSEpochDayUtils.formatPostgresTo(epochDay, buffer, end + 1);
+
+            // Then
+            assertEquals(22, end);
+            assertEquals("29.02.2024", new String(buffer, 1, 10));
+            assertEquals("2024-02-29", new String(buffer, 12, 10));
+        }
+
+        @Test
+        @DisplayName("Should write ASCII into a caller supplied byte array")
+        void shouldWriteAsciiIntoCallerSuppliedByteArray() {
+            // Given
+            var epochDay = FSEpochDayUtils.of(1901, 7, 5);
+            var buffer = new byte[22];
+
+            // When
+            var end = FSEpochDayUtils.formatTo(epochDay, buffer, 1);
+            end = FSEpochDayUtils.formatPostgresTo(epochDay, buffer, end + 1);
+
+            // Then
+            assertEquals(22, end);
+            assertEquals("05.07.1901", new String(buffer, 1, 10, StandardCharsets.US_ASCII));
+            assertEquals("1901-07-05", new String(buffer, 12, 10, StandardCharsets.US_ASCII));
+        }
+
+        @Test
+        @DisplayName("Should write years past 9999 in full and without a sign")
+        void shouldWriteYearsPast9999InFullAndWithoutSign() {
+            // Given
+            var epochDay = FSEpochDayUtils.of(20233, 1, 1);
+
+            // When
+            var standard = FSEpochDayUtils.format(epochDay);
+            var postgres = FSEpochDayUtils.formatPostgres(epochDay);
+
+            // Then
+            assertEquals("01.01.20233", standard);
+            assertEquals("20233-01-01", postgres);
+            assertEquals("01.01.20233", FSDateUtils.dateToString(FSDateUtils.dateFromString("01.01.20233")));
+            assertEquals("20233-01-01", FSDateUtils.stringToPostgres("01.01.20233"));
+            assertEquals("01.01.10000", FSDateUtils.dateToString(FSDateUtils.dateFromString("32.12.9999")));
+        }
+
+        @Test
+        @DisplayName("Should return INVALID for unparseable strings")
+        void shouldReturnInvalidForUnparseableStrings() {
+            // When / Then
+            assertEquals(FSEpochDayUtils.INVALID, FSEpochDayUtils.parse("no date"));
+            assertEquals(FSEpochDayUtils.INVALID, FSEpochDayUtils.parsePostgres("31.12.2023"));
+        }
+
+        @Test
+        @DisplayName("Should throw FSDateException for an invalid calendar date")
+        void shouldThrowFSDateExceptionForInvalidCalendarDate() {
+            // When / Then
+            assertThrows(FSDateException.class, () -> FSEpochDayUtils.of(2023, 2, 29));
+        }
+    }
+
+    @Nested
+    @DisplayName("Arithmetic tests")
+    class ArithmeticTests {
+
+        @Test
+        @DisplayName("Should match LocalDate for field extraction and week boundaries")
+        void shouldMatchLocalDateForFieldExtractionAndWeekBoundaries() {
+            // Given
+            var date = LocalDate.of(1899, 12, 1);
+
+            while (date.getYear() < 2101) {
+                var epochDay = (int) date.toEpochDay();
+
+                // When / Then
+                assertEquals(date.getYear(), FSEpochDayUtils.year(epochDay));
+                assertEquals(date.getMonthValue(), FSEpochDayUtils.month(epochDay));
+                assertEquals(date.getDayOfMonth(), FSEpochDayUtils.dayOfMonth(epochDay));
+                assertEquals(date.getDayOfWeek().getValue(), FSEpochDayUtils.dayOfWeek(epochDay));
+                assertEquals(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay(),
+                    FSEpochDayUtils.weekStart(epochDay));
+                assertEquals(date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)).toEpochDay(),
+                    FSEpochDayUtils.weekEnd(epochDay));
+                date = date.plusDays(13);
+            }
+        }
+
+        @Test
+        @DisplayName("Should match IsoFields for week indexes and ISO week numbers")
+        void shouldMatchIsoFieldsForWeekIndexesAndIsoWeekNumbers() {
+            // Given
+            var date = LocalDate.of(1990, 1, 1);
+
+            while (date.getYear() < 2040) {
+                var epochDay = (int) date.toEpochDay();
+                var expected = date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+
+                // When
+                var weekIndex = FSEpochDayUtils.weekIndex(epochDay);
+
+                // Then
+                assertEquals(expected, FSEpochDayUtils.isoYearWeek(epochDay), date.toString());
+                assertEquals(FSEpochDayUtils.weekStart(epochDay), FSEpochDayUtils.weekIndexStart(weekIndex));
+                date = date.plusDays(3);
+            }
+        }
+
+        @Test
+        @DisplayName("Should clamp to the end of month when adding months")
+        void shouldClampToEndOfMonthWhenAddingMonths() {
+            // Given
+            var epochDay = FSEpochDayUtils.of(2024, 1, 31);
+
+            // When
+            var february = FSEpochDayUtils.plusMonths(epochDay, 1);
+            var previousYear = FSEpochDayUtils.plusMonths(epochDay, -11);
+
+            // Then
+            assertEquals("29.02.2024", FSEpochDayUtils.format(february));
+            assertEquals("28.02.2023", FSEpochDayUtils.format(previousYear));
+        }
+
+        @Test
+        @DisplayName("Should agree with FSDateUtils for day and month arithmetic")
+        void shouldAgreeWithFSDateUtilsForDayAndMonthArithmetic() {
+            // Given
+            var date = "19.04.2022";
+            var epochDay = FSEpochDayUtils.parse(date);
+
+            // When
+            var days = FSEpochDayUtils.daysBetween(epochDay, FSEpochDayUtils.plusDays(epochDay, 30));
+
+            // Then
+            assertEquals(30, days);
+            assertEquals(FSDateUtils.dateByAddDays(date, -1), FSEpochDayUtils.format(FSEpochDayUtils.plusDays(epochDay, -1)));
+            assertEquals(FSDateUtils.plusMonth(date, 2), FSEpochDayUtils.format(FSEpochDayUtils.plusMonths(epochDay, 2)));
+        }
+    }
+}
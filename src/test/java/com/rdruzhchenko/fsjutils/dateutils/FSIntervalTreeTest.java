@@ -0,0 +1,130 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateParser;
+import com.rdruzhchenko.fsjutils.date.FSInterval;
+import com.rdruzhchenko.fsjutils.date.FSIntervalTree;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSIntervalTree")
+class FSIntervalTreeTest {
+
+    @Nested
+    @DisplayName("Date-time string tests")
+    class DateTimeStringTests {
+
+        @Test
+        @DisplayName("Should parse date-time strings to epoch minutes")
+        void shouldParseDateTimeStringsToEpochMinutes() {
+            // Given
+            long expected = LocalDateTime.of(2024, 3, 15, 9, 30).toEpochSecond(ZoneOffset.UTC) / 60;
+
+            // When / Then
+            assertEquals(expected, FSDateParser.parseEpochMinute("15.03.2024 09:30"));
+            assertEquals(expected, FSDateParser.parseEpochMinute("15.03.2024 09:30:59"));
+            assertEquals(expected - 570, FSDateParser.parseEpochMinute("15.03.2024"));
+            assertEquals(FSDateParser.INVALID_MINUTE, FSDateParser.parseEpochMinute("15.03.2024 09"));
+            assertEquals(FSDateParser.INVALID_MINUTE, FSDateParser.parseEpochMinute("03.2024"));
+        }
+
+        @Test
+        @DisplayName("Should answer overlap and stabbing queries for appointment slots")
+        void shouldAnswerOverlapAndStabbingQueriesForAppointmentSlots() {
+            // Given
+            var tree = new FSIntervalTree<String>();
+            tree.insert("15.03.2024 09:00", "15.03.2024 09:30", "a");
+            tree.insert("15.03.2024 09:30", "15.03.2024 10:00", "b");
+            tree.insert("15.03.2024 09:15", "15.03.2024 11:00", "c");
+
+            // When
+            var atNineThirty = tree.stabbing("15.03.2024 09:30");
+            var morning = tree.overlapping("15.03.2024 08:00", "15.03.2024 09:01");
+
+            // Then
+            assertEquals(List.of("c", "b"), atNineThirty.stream().map(FSInterval::value).toList());
+            assertEquals(List.of("a"), morning.stream().map(FSInterval::value).toList());
+            assertEquals("15.03.2024 09:00 - 15.03.2024 09:30: a", morning.get(0).toString());
+            assertTrue(tree.delete("15.03.2024 09:15", "15.03.2024 11:00", "c"));
+            assertFalse(tree.delete("15.03.2024 09:15", "15.03.2024 11:00", "c"));
+            assertEquals(2, tree.size());
+            assertThrows(FSDateException.class, () -> tree.stabbing("soon"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Consistency tests")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("Should match a linear scan after random inserts, deletes and bulk loading")
+        void shouldMatchLinearScanAfterRandomInsertsDeletesAndBulkLoading() {
+            // Given
+            var random = new Random(7);
+            var expected = new ArrayList<FSInterval<Integer>>();
+            for (int i = 0; i < 2000; i++) {
+                long start = random.nextInt(10_000);
+                expected.add(new FSInterval<>(start, start + 1 + random.nextInt(200), i % 50));
+            }
+            var bulk = FSIntervalTree.of(expected);
+            var incremental = new FSIntervalTree<Integer>();
+            expected.forEach(incremental::insert);
+
+            // When
+            for (int i = 0; i < 700; i++) {
+                var removed = expected.remove(random.nextInt(expected.size()));
+                assertTrue(bulk.delete(removed));
+                assertTrue(incremental.delete(removed));
+            }
+
+            // Then
+            assertEquals(expected.size(), bulk.size());
+            var order = Comparator.<FSInterval<Integer>>comparingLong(FSInterval::start)
+                .thenComparingLong(FSInterval::end).thenComparing(FSInterval::value);
+            for (int q = 0; q < 300; q++) {
+                long from = random.nextInt(10_300) - 100;
+                long to = from + 1 + random.nextInt(100);
+                var scan = expected.stream().filter(it -> it.overlaps(from, to)).sorted(order).toList();
+
+                assertEquals(scan, bulk.overlapping(from, to).stream().sorted(order).toList());
+                assertEquals(scan, incremental.overlapping(from, to).stream().sorted(order).toList());
+                assertEquals(!scan.isEmpty(), bulk.overlaps(from, to));
+                assertEquals(!scan.isEmpty(), incremental.overlaps(from, to));
+            }
+        }
+
+        @Test
+        @DisplayName("Should delete and find bulk loaded intervals with equal bounds")
+        void shouldDeleteAndFindBulkLoadedIntervalsWithEqualBounds() {
+            // Given
+            var tree = FSIntervalTree.of(List.of(new FSInterval<>(0, 10, "a"), new FSInterval<>(0, 10, "b"),
+                new FSInterval<>(0, 10, "c"), new FSInterval<>(5, 15, "d"), new FSInterval<>(0, 10, "e")));
+
+            // When
+            var deletedA = tree.delete(0, 10, "a");
+            var deletedC = tree.delete(0, 10, "c");
+            tree.insert(0, 10, "f");
+            var deletedE = tree.delete(0, 10, "e");
+
+            // Then
+            assertTrue(deletedA);
+            assertTrue(deletedC);
+            assertTrue(deletedE);
+            assertFalse(tree.delete(0, 10, "a"));
+            assertEquals(3, tree.size());
+            assertEquals(List.of("b", "d", "f"),
+                tree.stabbing(7).stream().map(FSInterval::value).sorted().toList());
+            assertEquals(List.of("d"), tree.overlapping(10, 20).stream().map(FSInterval::value).toList());
+        }
+    }
+}
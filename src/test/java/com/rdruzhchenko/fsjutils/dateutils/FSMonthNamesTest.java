@@ -0,0 +1,101 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSEpochDayUtils;
+import com.rdruzhchenko.fsjutils.date.FSMonthNames;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSMonthNames")
+class FSMonthNamesTest {
+
+    @Nested
+    @DisplayName("Name lookup tests")
+    class NameLookupTests {
+
+        @Test
+        @DisplayName("Should match the JDK month names in nominative and genitive case")
+        void shouldMatchTheJdkMonthNamesInNominativeAndGenitiveCase() {
+            for (var locale : List.of(Locale.forLanguageTag("uk"), Locale.ENGLISH, Locale.forLanguageTag("pl"))) {
+                // Given
+                var names = FSMonthNames.of(locale);
+                var standalone = DateTimeFormatter.ofPattern("LLLL", locale);
+                var withDay = DateTimeFormatter.ofPattern("MMMM", locale);
+
+                for (int month = 1; month <= 12; month++) {
+                    var date = LocalDate.of(2024, month, 1);
+
+                    // Then
+                    assertEquals(standalone.format(date).toLowerCase(locale), names.nominative(month).toLowerCase(locale));
+                    assertEquals(withDay.format(date).toLowerCase(locale), names.genitive(month).toLowerCase(locale));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should look up weekdays by ISO index and epoch day")
+        void shouldLookUpWeekdaysByIsoIndexAndEpochDay() {
+            // Given
+            int epochDay = FSEpochDayUtils.of(2023, 12, 31);
+
+            // Then
+            assertEquals("неділя", FSMonthNames.UKRAINIAN.weekdayOf(epochDay));
+            assertEquals("Monday", FSMonthNames.ENGLISH.weekday(1));
+            assertEquals("piątek", FSMonthNames.POLISH.weekday(5));
+            assertThrows(IllegalArgumentException.class, () -> FSMonthNames.ENGLISH.weekday(0));
+            assertThrows(IllegalArgumentException.class, () -> FSMonthNames.ENGLISH.nominative(13));
+            assertThrows(IllegalArgumentException.class, () -> FSMonthNames.of(Locale.GERMAN));
+        }
+
+        @Test
+        @DisplayName("Should read the month of a date string from fixed positions")
+        void shouldReadTheMonthOfADateStringFromFixedPositions() {
+            assertEquals("грудня", FSMonthNames.UKRAINIAN.genitiveOf("31.12.2023"));
+            assertEquals("lutego", FSMonthNames.POLISH.genitiveOf("01.02.2024"));
+            assertNull(FSMonthNames.UKRAINIAN.genitiveOf("01.13.2024"));
+            assertEquals("грудня", FSDateUtils.getMonthWordInGenitiveCase("31.12.2023"));
+            assertEquals("unknown", FSDateUtils.getMonthWordInGenitiveCase("31.00.2023"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Document date tests")
+    class DocumentDateTests {
+
+        @Test
+        @DisplayName("Should format document dates in every language")
+        void shouldFormatDocumentDatesInEveryLanguage() {
+            // Given
+            int epochDay = FSEpochDayUtils.of(2023, 12, 31);
+
+            // Then
+            assertEquals("31 грудня 2023 р.", FSMonthNames.UKRAINIAN.formatDocumentDate(epochDay));
+            assertEquals("31 December 2023", FSMonthNames.ENGLISH.formatDocumentDate(epochDay));
+            assertEquals("31 grudnia 2023 r.", FSMonthNames.POLISH.formatDocumentDate(epochDay));
+        }
+
+        @Test
+        @DisplayName("Should append document dates from strings into the caller buffer")
+        void shouldAppendDocumentDatesFromStringsIntoTheCallerBuffer() {
+            // Given
+            var sb = new StringBuilder("Київ, ");
+
+            // When
+            FSMonthNames.UKRAINIAN.formatDocumentDate("01.03.2024", sb);
+
+            // Then
+            assertEquals("Київ, 1 березня 2024 р.", sb.toString());
+            assertThrows(FSDateException.class, () -> FSMonthNames.UKRAINIAN.formatDocumentDate("31.02.2024", sb));
+            assertThrows(FSDateException.class, () -> FSMonthNames.UKRAINIAN.formatDocumentDate("1.3.2024", sb));
+        }
+    }
+}
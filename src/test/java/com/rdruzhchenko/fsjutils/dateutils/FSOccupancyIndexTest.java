@@ -0,0 +1,141 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSEpochDayUtils;
+import com.rdruzhchenko.fsjutils.date.FSOccupancyIndex;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSOccupancyIndex")
+class FSOccupancyIndexTest {
+
+    @Nested
+    @DisplayName("Booking tests")
+    class BookingTests {
+
+        @Test
+        @DisplayName("Should allow back-to-back bookings and reject overlaps")
+        void shouldAllowBackToBackBookingsAndRejectOverlaps() {
+            // Given
+            var index = new FSOccupancyIndex<String>("01.01.2024", "01.01.2025");
+            index.addResource("101");
+
+            // When
+            var first = index.book("101", "10.03.2024", "15.03.2024");
+            var backToBack = index.book("101", "15.03.2024", "17.03.2024");
+            var overlapping = index.book("101", "12.03.2024", "13.03.2024");
+
+            // Then
+            assertTrue(first);
+            assertTrue(backToBack);
+            assertFalse(overlapping);
+            assertFalse(index.isFree("101", "16.03.2024", "20.03.2024"));
+            assertTrue(index.isFree("101", "17.03.2024", "20.03.2024"));
+        }
+
+        @Test
+        @DisplayName("Should find the first free window across word boundaries")
+        void shouldFindFirstFreeWindowAcrossWordBoundaries() {
+            // Given
+            var index = new FSOccupancyIndex<Integer>(0, 200);
+            index.addResource(1);
+            index.book(1, 0, 60);
+            index.book(1, 63, 130);
+
+            // When / Then
+            assertEquals(60, index.firstFreeWindow(1, 0, 3));
+            assertEquals(130, index.firstFreeWindow(1, 0, 4));
+            assertEquals(130, index.firstFreeWindow(1, 61, 70));
+            assertEquals(FSEpochDayUtils.INVALID, index.firstFreeWindow(1, 0, 71));
+        }
+
+        @Test
+        @DisplayName("Should count free resources per day")
+        void shouldCountFreeResourcesPerDay() {
+            // Given
+            var index = new FSOccupancyIndex<String>("01.06.2024", "01.07.2024");
+            index.addResource("a");
+            index.addResource("b");
+            index.addResource("c");
+            index.book("a", "05.06.2024", "08.06.2024");
+            index.book("b", "07.06.2024", "09.06.2024");
+
+            // When / Then
+            assertEquals(3, index.countFree("04.06.2024"));
+            assertEquals(2, index.countFree("05.06.2024"));
+            assertEquals(1, index.countFree("07.06.2024"));
+            index.release("b", "07.06.2024", "09.06.2024");
+            index.removeResource("a");
+            assertEquals(2, index.countFree("07.06.2024"));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown resources and dates outside the window")
+        void shouldRejectUnknownResourcesAndDatesOutsideWindow() {
+            // Given
+            var index = new FSOccupancyIndex<String>("01.01.2024", "01.02.2024");
+            index.addResource("a");
+
+            // When / Then
+            assertThrows(IllegalArgumentException.class, () -> index.isFree("b", "01.01.2024", "02.01.2024"));
+            assertThrows(FSDateException.class, () -> index.book("a", "30.01.2024", "02.02.2024"));
+            assertThrows(FSDateException.class, () -> index.countFree("01.02.2024"));
+            assertEquals("31.01.2024", index.firstFreeWindow("a", "31.01.2024", 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Consistency tests")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("Should match a naive boolean calendar for random bookings")
+        void shouldMatchNaiveBooleanCalendarForRandomBookings() {
+            // Given
+            var random = new Random(42);
+            int days = 400;
+            var index = new FSOccupancyIndex<Integer>(1000, days);
+            var naive = new boolean[5][days];
+            for (int r = 0; r < 5; r++) {
+                index.addResource(r);
+            }
+
+            for (int step = 0; step < 2000; step++) {
+                int r = random.nextInt(5);
+                int from = random.nextInt(days);
+                int to = from + random.nextInt(Math.min(20, days - from) + 1);
+
+                // When
+                boolean expectedFree = true;
+                for (int d = from; d < to; d++) {
+                    expectedFree &= !naive[r][d];
+                }
+                if (random.nextInt(3) == 0) {
+                    index.release(r, 1000 + from, 1000 + to);
+                    for (int d = from; d < to; d++) {
+                        naive[r][d] = false;
+                    }
+                } else {
+                    // Then
+                    assertEquals(expectedFree, index.book(r, 1000 + from, 1000 + to));
+                    for (int d = from; d < to && expectedFree; d++) {
+                        naive[r][d] = true;
+                    }
+                }
+            }
+
+            for (int d = 0; d < days; d++) {
+                int free = 0;
+                for (int r = 0; r < 5; r++) {
+                    free += naive[r][d] ? 0 : 1;
+                }
+                assertEquals(free, index.countFree(1000 + d));
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSSlotGenerator;
+import com.rdruzhchenko.fsjutils.date.FSSlotGrid;
+import com.rdruzhchenko.fsjutils.date.FSTimeOfDay;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSSlotGrid")
+class FSSlotGridTest {
+
+    @Nested
+    @DisplayName("Generation tests")
+    class GenerationTests {
+
+        @Test
+        @DisplayName("Should skip breaks and bookings")
+        void shouldSkipBreaksAndBookings() {
+            // Given
+            var generator = new FSSlotGenerator("09:00", "13:00", 30, "11:00-11:30");
+
+            // When
+            var grid = generator.generate("09:30-10:15", "12:30-12:45");
+
+            // Then
+            assertEquals(List.of("09:00", "10:30", "11:30", "12:00"), grid.startTimes());
+            assertEquals("09:30", grid.endTime(0));
+            assertEquals(30 * 60, grid.getSlotSeconds());
+        }
+
+        @Test
+        @DisplayName("Should keep slots aligned to the step after a booking")
+        void shouldKeepSlotsAlignedToTheStepAfterABooking() {
+            // Given
+            var generator = new FSSlotGenerator(FSTimeOfDay.of(8, 0, 0), FSTimeOfDay.of(10, 0, 0), 45, 15);
+
+            // When
+            var grid = generator.generate(new int[] {FSTimeOfDay.of(8, 20, 0), FSTimeOfDay.of(8, 40, 0)});
+
+            // Then
+            assertEquals(List.of("08:45", "09:00", "09:15"), grid.startTimes());
+        }
+
+        @Test
+        @DisplayName("Should return an empty grid when the slot does not fit")
+        void shouldReturnAnEmptyGridWhenTheSlotDoesNotFit() {
+            // When
+            var grid = new FSSlotGenerator("09:00", "09:20", 30).generate();
+
+            // Then
+            assertEquals(0, grid.size());
+            assertEquals("FSSlotGrid[]", grid.toString());
+        }
+
+        @Test
+        @DisplayName("Should match a brute-force check for random bookings")
+        void shouldMatchABruteForceCheckForRandomBookings() {
+            // Given
+            var random = new Random(17);
+
+            for (int round = 0; round < 500; round++) {
+                int open = random.nextInt(600) * 60;
+                int close = open + (1 + random.nextInt(600)) * 60;
+                int slot = 1 + random.nextInt(90);
+                int step = 1 + random.nextInt(60);
+                var bookings = new int[2 * random.nextInt(8)];
+                for (int i = 0; i < bookings.length; i += 2) {
+                    bookings[i] = random.nextInt(1300) * 60;
+                    bookings[i + 1] = bookings[i] + (1 + random.nextInt(120)) * 60;
+                }
+
+                // When
+                var grid = new FSSlotGenerator(open, close, slot, step).generate(bookings);
+
+                // Then
+                var expected = new ArrayList<Integer>();
+                for (int t = open; t + slot * 60 <= close; t += step * 60) {
+                    boolean free = true;
+                    for (int i = 0; i < bookings.length; i += 2) {
+                        free &= bookings[i] >= t + slot * 60 || bookings[i + 1] <= t;
+                    }
+                    if (free) {
+                        expected.add(t);
+                    }
+                }
+                assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), grid.starts());
+            }
+        }
+
+        @Test
+        @DisplayName("Should generate grids of many resources in parallel")
+        void shouldGenerateGridsOfManyResourcesInParallel() {
+            // Given
+            var generator = new FSSlotGenerator("09:00", "18:00", 60, "13:00-14:00");
+            var bookings = new HashMap<Integer, int[]>();
+            for (int resource = 0; resource < 1000; resource++) {
+                int start = FSTimeOfDay.of(9 + resource % 8, 0, 0);
+                bookings.put(resource, new int[] {start, start + 3600});
+            }
+
+            // When
+            var grids = generator.generateAll(bookings);
+
+            // Then
+            assertEquals(1000, grids.size());
+            for (var entry : bookings.entrySet()) {
+                FSSlotGrid grid = grids.get(entry.getKey());
+                assertArrayEquals(generator.generate(entry.getValue()).starts(), grid.starts());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject invalid configuration and ranges")
+        void shouldRejectInvalidConfigurationAndRanges() {
+            // Given
+            var generator = new FSSlotGenerator("09:00", "18:00", 30);
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> new FSSlotGenerator("18:00", "09:00", 30));
+            assertThrows(IllegalArgumentException.class, () -> new FSSlotGenerator("09:00", "18:00", 0));
+            assertThrows(FSDateException.class, () -> new FSSlotGenerator("9:00", "18:00", 30));
+            assertThrows(FSDateException.class, () -> generator.generate("10:00 11:00"));
+            assertThrows(IllegalArgumentException.class, () -> generator.generate("11:00-10:00"));
+            assertThrows(IllegalArgumentException.class, () -> generator.generate(new int[] {3600}));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSTimeOfDay;
+import com.rdruzhchenko.fsjutils.exception.FSDateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSTimeOfDay")
+class FSTimeOfDayTest {
+
+    @Nested
+    @DisplayName("Parsing and formatting tests")
+    class ParsingAndFormattingTests {
+
+        @Test
+        @DisplayName("Should match LocalTime for parsing, minute addition and formatting")
+        void shouldMatchLocalTimeForParsingMinuteAdditionAndFormatting() {
+            // Given
+            var time = LocalTime.MIDNIGHT;
+
+            do {
+                var text = time.toString();
+
+                // When
+                int secondOfDay = FSTimeOfDay.parse(text);
+
+                // Then
+                assertEquals(time.toSecondOfDay(), secondOfDay, text);
+                assertEquals(text, FSTimeOfDay.format(secondOfDay));
+                assertEquals(time.plusMinutes(1439).toString(), FSTimeOfDay.format(FSTimeOfDay.plusMinutes(secondOfDay, 1439)));
+                assertEquals(time.plusMinutes(-61).toString(), FSTimeOfDay.format(FSTimeOfDay.plusMinutes(secondOfDay, -61)));
+                time = time.plusSeconds(37);
+            } while (time.toSecondOfDay() >= 37);
+        }
+
+        @Test
+        @DisplayName("Should reject what LocalTime rejects")
+        void shouldRejectWhatLocalTimeRejects() {
+            // When / Then
+            for (var text : new String[]{"24:00", "9:30", "09:60", "09:30:60", "09-30", "09:30:", "", "ab:cd"}) {
+                assertEquals(FSTimeOfDay.INVALID, FSTimeOfDay.parse(text), text);
+            }
+            assertEquals(FSTimeOfDay.INVALID, FSTimeOfDay.parse(null));
+            assertThrows(FSDateException.class, () -> FSTimeOfDay.of(24, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should parse a region and write into a char array")
+        void shouldParseRegionAndWriteIntoCharArray() {
+            // Given
+            var text = "15.03.2024 09:30:15";
+            var buffer = new char[10];
+
+            // When
+            int secondOfDay = FSTimeOfDay.parse(text, 11, text.length());
+            int end = FSTimeOfDay.formatTo(secondOfDay, buffer, 1);
+
+            // Then
+            assertEquals(FSTimeOfDay.of(9, 30, 15), secondOfDay);
+            assertEquals(9, end);
+            assertEquals("09:30:15", new String(buffer, 1, 8));
+            assertTrue(FSTimeOfDay.compare(secondOfDay, FSTimeOfDay.of(9, 31, 0)) < 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("FSDateUtils routing tests")
+    class FSDateUtilsRoutingTests {
+
+        @Test
+        @DisplayName("Should keep the FSDateUtils time methods behaving as before")
+        void shouldKeepFSDateUtilsTimeMethodsBehavingAsBefore() {
+            // When / Then
+            assertEquals("00:10", FSDateUtils.plusMinutesToTime("23:50", 20));
+            assertEquals("10:05:30", FSDateUtils.plusMinutesToTime("10:00:30", 5));
+            assertEquals("10:05:00.500", FSDateUtils.plusMinutesToTime("10:00:00.5", 5));
+            assertEquals("bad", FSDateUtils.plusMinutesToTime("bad", 0));
+            assertThrows(FSDateException.class, () -> FSDateUtils.plusMinutesToTime("25:00", 1));
+            assertTrue(FSDateUtils.isTimeLessThan("09:59:59", "10:00"));
+            assertTrue(FSDateUtils.isTimeGreaterThan("10:00:01", "10:00"));
+            assertThrows(FSDateException.class, () -> FSDateUtils.isTimeLessThan("10", "11:00"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Byte parsing tests")
+    class ByteParsingTests {
+
+        @Test
+        @DisplayName("Should parse times from ASCII bytes")
+        void shouldParseTimesFromAsciiBytes() {
+            // Given
+            var bytes = "id;09:30;23:59:59;9:30".getBytes(StandardCharsets.US_ASCII);
+
+            // Then
+            assertEquals(FSTimeOfDay.of(9, 30, 0), FSTimeOfDay.parse(bytes, 3, 5));
+            assertEquals(FSTimeOfDay.of(23, 59, 59), FSTimeOfDay.parse(ByteBuffer.wrap(bytes), 9, 8));
+            assertEquals(FSTimeOfDay.INVALID, FSTimeOfDay.parse(bytes, 18, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> FSTimeOfDay.parse(bytes, 20, 5));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSToday;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSToday")
+class FSTodayTest {
+
+    private static final ZoneId KYIV = ZoneId.of("Europe/Kyiv");
+
+    // Clock that only moves when the test advances it
+    static class ManualClock extends Clock {
+        private Instant instant;
+
+        ManualClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceMillis(long millis) {
+            instant = instant.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return KYIV;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Nested
+    @DisplayName("Day boundary tests")
+    class DayBoundaryTests {
+
+        @Test
+        @DisplayName("Should return start of day in the clock zone")
+        void shouldReturnStartOfDayInClockZone() {
+            // Given
+            var now = LocalDateTime.of(2024, 3, 15, 13, 45).atZone(KYIV).toInstant();
+            var today = new FSToday(new ManualClock(now));
+
+            // When
+            var date = today.date();
+
+            // Then
+            assertEquals(LocalDate.of(2024, 3, 15), today.localDate());
+            assertEquals(LocalDate.of(2024, 3, 15).toEpochDay(), today.epochDay());
+            assertEquals(LocalDate.of(2024, 3, 15).atStartOfDay(KYIV).toInstant(), date.toInstant());
+        }
+
+        @Test
+        @DisplayName("Should switch to the next day exactly at local midnight")
+        void shouldSwitchToNextDayExactlyAtLocalMidnight() {
+            // Given
+            var now = LocalDateTime.of(2024, 3, 15, 23, 59, 59).atZone(KYIV).toInstant();
+            var clock = new ManualClock(now);
+            var today = new FSToday(clock);
+            var before = today.localDate();
+
+            // When
+            clock.advanceMillis(999);
+            var stillSameDay = today.localDate();
+            clock.advanceMillis(1);
+            var after = today.localDate();
+
+            // Then
+            assertSame(before, stillSameDay);
+            assertEquals(LocalDate.of(2024, 3, 16), after);
+        }
+
+        @Test
+        @DisplayName("Should return a new Date instance on each call")
+        void shouldReturnNewDateInstanceOnEachCall() {
+            // Given
+            var today = new FSToday(new ManualClock(Instant.parse("2024-03-15T10:00:00Z")));
+
+            // When
+            var first = today.date();
+            first.setTime(0);
+            var second = today.date();
+
+            // Then
+            assertNotEquals(first, second);
+        }
+    }
+
+    @Nested
+    @DisplayName("FSDateUtils integration tests")
+    class FSDateUtilsIntegrationTests {
+
+        @AfterEach
+        void disableCachedClock() {
+            FSDateUtils.disableCachedClock();
+        }
+
+        @Test
+        @DisplayName("Should take today from the configured clock")
+        void shouldTakeTodayFromConfiguredClock() {
+            // Given
+            var now = LocalDateTime.of(2023, 12, 31, 22, 0).atZone(KYIV).toInstant();
+            FSDateUtils.enableCachedClock(Clock.fixed(now, KYIV));
+
+            // When / Then
+            assertEquals(LocalDate.of(2023, 12, 31), FSDateUtils.getCurrentLocalDate());
+            assertEquals(LocalDate.of(2023, 12, 31).toEpochDay(), FSDateUtils.getCurrentEpochDay());
+            assertEquals(LocalDate.of(2023, 12, 31).atStartOfDay(KYIV).toInstant(),
+                FSDateUtils.getCurrentDateAsDate().toInstant());
+        }
+    }
+}
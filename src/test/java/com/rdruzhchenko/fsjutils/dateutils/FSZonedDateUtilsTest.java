@@ -0,0 +1,179 @@
+package com.rdruzhchenko.fsjutils.dateutils;
+
+import com.rdruzhchenko.fsjutils.date.FSDateUtils;
+import com.rdruzhchenko.fsjutils.date.FSZonedDateUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSZonedDateUtils")
+class FSZonedDateUtilsTest {
+
+    @Nested
+    @DisplayName("Conversion tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should match ZonedDateTime for start of day and day lookup")
+        void shouldMatchZonedDateTimeForStartOfDayAndDayLookup() {
+            for (var zoneName : new String[]{"Europe/Kyiv", "America/Sao_Paulo", "Asia/Kathmandu", "UTC", "+05:30"}) {
+                // Given
+                var zone = ZoneId.of(zoneName);
+                var utils = new FSZonedDateUtils(zone);
+                var date = LocalDate.of(1895, 1, 1);
+
+                while (date.getYear() < 2105) {
+                    var start = date.atStartOfDay(zone).toInstant().toEpochMilli();
+
+                    // When
+                    var actualStart = utils.startOfDay(date.toEpochDay());
+
+                    // Then
+                    assertEquals(start, actualStart, zoneName + " " + date);
+                    assertEquals(date.toEpochDay(), utils.epochDay(start), zoneName + " " + date);
+                    assertEquals(date.toEpochDay() - 1, utils.epochDay(start - 1), zoneName + " " + date);
+                    date = date.plusDays(5);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should use the end of the gap when midnight does not exist")
+        void shouldUseEndOfGapWhenMidnightDoesNotExist() {
+            // Given
+            var zone = ZoneId.of("America/Sao_Paulo");
+            var utils = new FSZonedDateUtils(zone);
+
+            // When
+            var dateTime = utils.dateStringToDateTime("04.11.2018");
+
+            // Then
+            assertEquals(LocalDateTime.of(2018, 11, 4, 1, 0), dateTime);
+            assertEquals(LocalDate.of(2018, 11, 4), utils.dateToLocalDate(utils.localDateToDate(LocalDate.of(2018, 11, 4))));
+        }
+
+        @Test
+        @DisplayName("Should count calendar days across a daylight saving change")
+        void shouldCountCalendarDaysAcrossDaylightSavingChange() {
+            // Given
+            var utils = new FSZonedDateUtils(ZoneId.of("Europe/Kyiv"));
+            var begin = utils.dateFromString("30.03.2024");
+            var end = utils.dateFromString("01.04.2024");
+
+            // When
+            var days = utils.daysBetween(begin, end);
+            var next = utils.dateByAddDaysAsDate(begin, 1);
+
+            // Then
+            assertEquals(2, days);
+            assertEquals("31.03.2024", utils.dateToString(next));
+            assertEquals(-1, utils.daysBetween(null, end));
+            assertNull(utils.dateFromString(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("FSDateUtils zone binding tests")
+    class FSDateUtilsZoneBindingTests {
+
+        private TimeZone defaultZone;
+
+        @BeforeEach
+        void setUp() {
+            defaultZone = TimeZone.getDefault();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TimeZone.setDefault(defaultZone);
+            FSDateUtils.resetZone();
+        }
+
+        private Date startOfDay(LocalDate date, String zone) {
+            return Date.from(date.atStartOfDay(ZoneId.of(zone)).toInstant());
+        }
+
+        @Test
+        @DisplayName("Should follow changes of the JVM default zone")
+        void shouldFollowChangesOfJvmDefaultZone() {
+            // Given
+            var day = LocalDate.of(2024, 1, 1);
+
+            // When
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            var tokyo = FSDateUtils.dateFromString("01.01.2024");
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+            var saoPaulo = FSDateUtils.dateFromString("01.01.2024");
+
+            // Then
+            assertEquals(startOfDay(day, "Asia/Tokyo"), tokyo);
+            assertEquals(startOfDay(day, "America/Sao_Paulo"), saoPaulo);
+            assertEquals(ZoneId.of("America/Sao_Paulo"), FSDateUtils.getZone());
+            assertEquals("31.12.2023", FSDateUtils.dateToString(tokyo));
+        }
+
+        @Test
+        @DisplayName("Should take today from the current JVM default zone")
+        void shouldTakeTodayFromCurrentJvmDefaultZone() {
+            for (var zoneName : new String[]{"Pacific/Kiritimati", "Pacific/Pago_Pago"}) {
+                // Given
+                var zone = ZoneId.of(zoneName);
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+
+                // When
+                var before = LocalDate.now(zone);
+                var today = FSDateUtils.getCurrentLocalDate();
+                var after = LocalDate.now(zone);
+
+                // Then
+                assertTrue(today.equals(before) || today.equals(after), zoneName + ": " + today);
+                assertEquals(today, FSDateUtils.dateToLocalDate(FSDateUtils.getCurrentDateAsDate()));
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep a set zone until the zone is reset")
+        void shouldKeepSetZoneUntilZoneIsReset() {
+            // Given
+            var day = LocalDate.of(2024, 1, 1);
+            FSDateUtils.setZone(ZoneId.of("Asia/Tokyo"));
+
+            // When
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+            var bound = FSDateUtils.dateFromString("01.01.2024");
+            FSDateUtils.resetZone();
+            var followed = FSDateUtils.dateFromString("01.01.2024");
+
+            // Then
+            assertEquals(startOfDay(day, "Asia/Tokyo"), bound);
+            assertEquals(startOfDay(day, "America/Sao_Paulo"), followed);
+        }
+
+        @Test
+        @DisplayName("Should convert dates in the configured zone")
+        void shouldConvertDatesInConfiguredZone() {
+            // Given
+            var zone = ZoneId.of("Asia/Tokyo");
+
+            // When
+            FSDateUtils.setZone(zone);
+            var date = FSDateUtils.dateFromString("01.01.2024");
+
+            // Then
+            assertEquals(zone, FSDateUtils.getZone());
+            assertEquals(Date.from(LocalDate.of(2024, 1, 1).atStartOfDay(zone).toInstant()), date);
+            assertEquals("01.01.2024", FSDateUtils.dateToString(date));
+            assertEquals(LocalDate.of(2024, 1, 1), FSDateUtils.dateToLocalDate(date));
+        }
+    }
+}
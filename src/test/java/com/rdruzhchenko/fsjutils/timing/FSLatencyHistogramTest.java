@@ -0,0 +1,140 @@
+package com.rdruzhchenko.fsjutils.timing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSLatencyHistogram")
+class FSLatencyHistogramTest {
+
+    @Nested
+    @DisplayName("Bucket tests")
+    class BucketTests {
+
+        @Test
+        @DisplayName("Should place every value inside the bounds of its bucket")
+        void shouldPlaceEveryValueInsideBoundsOfItsBucket() {
+            // Given
+            long[] values = {0, 1, 31, 32, 63, 64, 1000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+
+            for (long value : values) {
+                // When
+                int index = FSLatencyHistogram.bucketIndex(value);
+
+                // Then
+                assertTrue(index >= 0 && index < FSLatencyHistogram.BUCKET_COUNT, String.valueOf(value));
+                assertTrue(FSLatencyHistogram.bucketLowerBound(index) <= value, String.valueOf(value));
+                assertTrue(FSLatencyHistogram.bucketUpperBound(index) >= value, String.valueOf(value));
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the relative bucket width below 1/32")
+        void shouldKeepRelativeBucketWidthBelowOneThirtySecond() {
+            for (int i = 32; i < FSLatencyHistogram.BUCKET_COUNT; i++) {
+                // Given
+                long lower = FSLatencyHistogram.bucketLowerBound(i);
+                long upper = FSLatencyHistogram.bucketUpperBound(i);
+
+                // When / Then
+                assertEquals(i, FSLatencyHistogram.bucketIndex(lower));
+                assertEquals(i, FSLatencyHistogram.bucketIndex(upper));
+                assertTrue((upper - lower) * 32 <= lower, String.valueOf(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should report percentiles within the bucket precision")
+        void shouldReportPercentilesWithinBucketPrecision() {
+            // Given
+            var histogram = new FSLatencyHistogram(4);
+            for (int i = 1; i <= 10_000; i++) {
+                histogram.record(i * 1000L);
+            }
+
+            // When
+            var snapshot = histogram.snapshot();
+
+            // Then
+            assertEquals(10_000, snapshot.getCount());
+            assertEquals(10_000_000, snapshot.getMax());
+            assertEquals(5_000_500, snapshot.getMean(), 0.001);
+            assertEquals(5_000_000, snapshot.getP50(), 5_000_000 / 32.0);
+            assertEquals(9_900_000, snapshot.getP99(), 9_900_000 / 32.0);
+            assertEquals(9_990_000, snapshot.getP999(), 9_990_000 / 32.0);
+            assertEquals(snapshot.getMax(), snapshot.getValueAtPercentile(100));
+        }
+
+        @Test
+        @DisplayName("Should start a new interval after an interval snapshot")
+        void shouldStartNewIntervalAfterIntervalSnapshot() {
+            // Given
+            var histogram = new FSLatencyHistogram();
+            histogram.record(5);
+            histogram.record(-1);
+
+            // When
+            var first = histogram.intervalSnapshot();
+            histogram.record(7);
+            var second = histogram.intervalSnapshot();
+
+            // Then
+            assertEquals(2, first.getCount());
+            assertEquals(5, first.getMax());
+            assertEquals(0, first.getValueAtPercentile(50));
+            assertEquals(1, second.getCount());
+            assertEquals(7, second.getMax());
+            assertEquals(0, histogram.snapshot().getCount());
+        }
+
+        @Test
+        @DisplayName("Should not lose samples recorded concurrently")
+        void shouldNotLoseSamplesRecordedConcurrently() throws InterruptedException {
+            // Given
+            var histogram = new FSLatencyHistogram();
+            var executor = Executors.newFixedThreadPool(8);
+            var done = new CountDownLatch(8);
+
+            // When
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        histogram.record(i);
+                    }
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+            executor.shutdown();
+
+            // Then
+            var snapshot = histogram.snapshot();
+            assertEquals(800_000, snapshot.getCount());
+            assertEquals(99_999, snapshot.getMax());
+        }
+
+        @Test
+        @DisplayName("Should return zeros for an empty histogram")
+        void shouldReturnZerosForEmptyHistogram() {
+            // When
+            var snapshot = new FSLatencyHistogram().snapshot();
+
+            // Then
+            assertEquals(0, snapshot.getCount());
+            assertEquals(0, snapshot.getP99());
+            assertEquals(0, snapshot.getMean());
+            assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(101));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.rdruzhchenko.fsjutils.timing;
+
+import com.rdruzhchenko.fsjutils.date.FSDurationLabels;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FSStopwatch")
+class FSStopwatchTest {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    @AfterEach
+    void tearDown() {
+        FSStopwatch.remove("test.save");
+        FSStopwatch.remove("test.load");
+    }
+
+    @Nested
+    @DisplayName("Registry tests")
+    class RegistryTests {
+
+        @Test
+        @DisplayName("Should share stopwatches by name")
+        void shouldShareStopwatchesByName() {
+            // Given
+            var stopwatch = FSStopwatch.named("test.save");
+
+            // When
+            stopwatch.record(NANOS_PER_MILLI);
+            FSStopwatch.named("test.load").record(2 * NANOS_PER_MILLI);
+
+            // Then
+            assertSame(stopwatch, FSStopwatch.named("test.save"));
+            var snapshots = FSStopwatch.snapshotAll(true);
+            assertEquals(1, snapshots.get("test.save").getCount());
+            assertEquals(1, snapshots.get("test.load").getCount());
+            assertEquals(0, stopwatch.snapshot().getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Timing tests")
+    class TimingTests {
+
+        @Test
+        @DisplayName("Should record elapsed time between start and stop")
+        void shouldRecordElapsedTimeBetweenStartAndStop() {
+            // Given
+            var stopwatch = new FSStopwatch("local");
+
+            // When
+            long start = stopwatch.start();
+            long elapsed = stopwatch.stop(start);
+            var result = stopwatch.time(() -> "value");
+            stopwatch.time(() -> { });
+
+            // Then
+            assertTrue(elapsed >= 0);
+            assertEquals("value", result);
+            assertEquals(3, stopwatch.snapshot().getCount());
+        }
+
+        @Test
+        @DisplayName("Should record the time of a task that throws")
+        void shouldRecordTimeOfTaskThatThrows() {
+            // Given
+            var stopwatch = new FSStopwatch("local");
+
+            // When
+            assertThrows(IllegalStateException.class, () -> stopwatch.time(() -> {
+                throw new IllegalStateException();
+            }));
+
+            // Then
+            assertEquals(1, stopwatch.snapshot().getCount());
+        }
+
+        @Test
+        @DisplayName("Should format the report with formatDuration")
+        void shouldFormatReportWithFormatDuration() {
+            // Given
+            var stopwatch = new FSStopwatch("orders");
+            stopwatch.record(2 * NANOS_PER_MILLI);
+
+            // When
+            var english = stopwatch.report(FSDurationLabels.ENGLISH);
+            var ukrainian = stopwatch.snapshot().toString();
+
+            // Then
+            assertEquals("orders: count=1, p50=2 ms, p99=2 ms, p999=2 ms, max=2 ms", english);
+            assertEquals("count=1, p50=2 мс., p99=2 мс., p999=2 мс., max=2 мс.", ukrainian);
+        }
+    }
+}